@@ -0,0 +1,80 @@
+package seedu.taskman.benchmarks;
+
+import seedu.taskman.commons.exceptions.IllegalValueException;
+import seedu.taskman.model.TaskMan;
+import seedu.taskman.model.event.Task;
+import seedu.taskman.model.event.UniqueActivityList;
+import seedu.taskman.testutil.TaskBuilder;
+import seedu.taskman.testutil.TaskManBuilder;
+import seedu.taskman.testutil.TestTask;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Generates synthetic TaskMan data for benchmarks.
+ * The same seed always generates the same data, so results are comparable across runs.
+ * <p>
+ * Activities are split evenly between floating tasks, tasks with deadlines and tasks with schedules,
+ * spread over the year around the time of generation, and tagged from a small pool of tags.
+ */
+public class ActivityDataGenerator {
+
+    private static final long DEFAULT_SEED = 2103;
+    private static final int TAG_POOL_SIZE = 20;
+    private static final long SECONDS_PER_YEAR = 365L * 24 * 60 * 60;
+    private static final long MAX_SCHEDULE_SECONDS = 4 * 60 * 60;
+
+    private final Random random;
+    private final long epochSecondNow = Instant.now().getEpochSecond();
+
+    public ActivityDataGenerator() {
+        this(DEFAULT_SEED);
+    }
+
+    public ActivityDataGenerator(long seed) {
+        random = new Random(seed);
+    }
+
+    /**
+     * Returns the given number of tasks with distinct titles.
+     */
+    public List<TestTask> generateTasks(int count) throws IllegalValueException {
+        List<TestTask> tasks = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            tasks.add(generateTask("Generated task " + i, i));
+        }
+        return tasks;
+    }
+
+    /**
+     * Returns a TaskMan holding the given number of tasks.
+     */
+    public TaskMan generateTaskMan(int count)
+            throws IllegalValueException, UniqueActivityList.DuplicateActivityException {
+        TaskManBuilder builder = new TaskManBuilder(new TaskMan());
+        for (TestTask task : generateTasks(count)) {
+            builder.withTask(new Task(task));
+        }
+        return builder.build();
+    }
+
+    private TestTask generateTask(String title, int index) throws IllegalValueException {
+        TaskBuilder builder = new TaskBuilder(title)
+                .withTags("tag" + random.nextInt(TAG_POOL_SIZE));
+        long time = epochSecondNow + (long) (random.nextDouble() * SECONDS_PER_YEAR) - SECONDS_PER_YEAR / 2;
+        switch (index % 3) {
+            case 1:
+                builder.withDeadline(time);
+                break;
+            case 2:
+                builder.withSchedule(time, time + (long) (random.nextDouble() * MAX_SCHEDULE_SECONDS));
+                break;
+            default:
+                break;
+        }
+        return builder.build();
+    }
+}
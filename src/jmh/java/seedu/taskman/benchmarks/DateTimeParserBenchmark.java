@@ -0,0 +1,61 @@
+package seedu.taskman.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import seedu.taskman.logic.parser.DateTimeParser;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks parsing datetimes in natural language, both when the same input is parsed repeatedly
+ * and when every input is new to the parser.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class DateTimeParserBenchmark {
+
+    // more distinct inputs than the parser remembers
+    private static final int DISTINCT_INPUT_COUNT = 1024;
+    private static final String[] MONTHS =
+            {"jan", "feb", "mar", "apr", "may", "jun", "jul", "aug", "sep", "oct", "nov", "dec"};
+
+    @Param({"tmr 1800", "next fri 1900", "12 oct 2016 08:30"})
+    public String repeatedInput;
+
+    private String[] distinctInputs;
+    private int nextInput;
+
+    @Setup
+    public void setUp() {
+        distinctInputs = new String[DISTINCT_INPUT_COUNT];
+        for (int i = 0; i < DISTINCT_INPUT_COUNT; i++) {
+            distinctInputs[i] = String.format("%d %s 2016 %02d:%02d",
+                    i % 28 + 1, MONTHS[i / 28 % MONTHS.length], i % 24, i % 60);
+        }
+    }
+
+    @Benchmark
+    public long parseRepeatedInput() throws Exception {
+        return DateTimeParser.getEpochTime(repeatedInput);
+    }
+
+    @Benchmark
+    public long parseDistinctInput() throws Exception {
+        String input = distinctInputs[nextInput];
+        nextInput = (nextInput + 1) % DISTINCT_INPUT_COUNT;
+        return DateTimeParser.getEpochTime(input);
+    }
+}
@@ -0,0 +1,74 @@
+package seedu.taskman.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import seedu.taskman.logic.Logic;
+import seedu.taskman.logic.LogicManager;
+import seedu.taskman.logic.commands.CommandResult;
+import seedu.taskman.model.ModelManager;
+import seedu.taskman.storage.StorageManager;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the latency of executing commands typed by the user, for data of various sizes.
+ * Commands modifying the data are undone afterwards, so the size of the data stays the same.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class LogicBenchmark {
+
+    @Param({"100", "10000", "100000"})
+    public int activityCount;
+
+    private Path dataFolder;
+    private StorageManager storage;
+    private Logic logic;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        dataFolder = Files.createTempDirectory("taskman-benchmark");
+        storage = new StorageManager(dataFolder.resolve("taskman.xml").toString(),
+                dataFolder.resolve("preferences.json").toString());
+        ModelManager model = new ModelManager(new ActivityDataGenerator().generateTaskMan(activityCount));
+        logic = new LogicManager(model, storage);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        storage.flushPendingSave();
+        for (File file : dataFolder.toFile().listFiles()) {
+            file.delete();
+        }
+        dataFolder.toFile().delete();
+    }
+
+    @Benchmark
+    public CommandResult listByKeywordAndTag() {
+        return logic.execute("list generated t/tag1");
+    }
+
+    @Benchmark
+    public CommandResult addAndUndo() {
+        logic.execute("add benchmark task d/tmr 1800 t/benchmark");
+        return logic.execute("undo 1");
+    }
+}
@@ -0,0 +1,69 @@
+package seedu.taskman.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import seedu.taskman.model.ModelManager;
+import seedu.taskman.model.TaskMan;
+import seedu.taskman.model.event.Activity;
+import seedu.taskman.model.event.Task;
+import seedu.taskman.testutil.TaskBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks adding an activity to data of various sizes, both to the bare TaskMan
+ * and through the ModelManager, which also maintains the indexes and panel views.
+ * Each added activity is removed again, so the size of the data stays the same.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class ModelBenchmark {
+
+    @Param({"100", "10000", "100000"})
+    public int activityCount;
+
+    private TaskMan taskMan;
+    private ModelManager model;
+    private Activity added;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        TaskMan data = new ActivityDataGenerator().generateTaskMan(activityCount);
+        taskMan = new TaskMan(data);
+        model = new ModelManager(data);
+        added = new Activity(new Task(new TaskBuilder("Benchmark task").withTags("benchmark").build()));
+    }
+
+    @Benchmark
+    public TaskMan taskManAddAndRemove() throws Exception {
+        taskMan.addActivity(added);
+        taskMan.removeActivity(added);
+        return taskMan;
+    }
+
+    @Benchmark
+    public ModelManager modelAddAndDelete() throws Exception {
+        model.addActivity(added);
+        model.deleteActivity(added);
+        return model;
+    }
+
+    @Benchmark
+    public boolean containsActivity() {
+        return taskMan.getUniqueActivityList().contains(added);
+    }
+}
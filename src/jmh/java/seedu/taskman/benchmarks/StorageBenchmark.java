@@ -0,0 +1,64 @@
+package seedu.taskman.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import seedu.taskman.model.ReadOnlyTaskMan;
+import seedu.taskman.model.TaskMan;
+import seedu.taskman.storage.XmlTaskManStorage;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks saving and reading the XML data file for data of various sizes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class StorageBenchmark {
+
+    @Param({"100", "10000", "100000"})
+    public int activityCount;
+
+    private File dataFile;
+    private TaskMan taskMan;
+    private XmlTaskManStorage storage;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        dataFile = Files.createTempFile("taskman-benchmark", ".xml").toFile();
+        taskMan = new ActivityDataGenerator().generateTaskMan(activityCount);
+        storage = new XmlTaskManStorage(dataFile.getPath());
+        storage.saveTaskMan(taskMan);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        dataFile.delete();
+    }
+
+    @Benchmark
+    public void saveTaskMan() throws Exception {
+        storage.saveTaskMan(taskMan);
+    }
+
+    @Benchmark
+    public ReadOnlyTaskMan readTaskMan() throws Exception {
+        return storage.readTaskMan().get();
+    }
+}
@@ -8,6 +8,8 @@ import javafx.stage.Stage;
 import seedu.taskman.commons.core.config.Config;
 import seedu.taskman.commons.core.EventsCenter;
 import seedu.taskman.commons.core.LogsCenter;
+import seedu.taskman.commons.core.MetricsCenter;
+import seedu.taskman.commons.core.StartupTimer;
 import seedu.taskman.commons.core.Version;
 import seedu.taskman.commons.events.ui.ExitAppRequestEvent;
 import seedu.taskman.commons.exceptions.DataConversionException;
@@ -20,9 +22,13 @@ import seedu.taskman.storage.StorageManager;
 import seedu.taskman.ui.Ui;
 import seedu.taskman.ui.UiManager;
 
+import java.io.File;
 import java.io.IOException;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.logging.Logger;
 
 /**
@@ -39,31 +45,49 @@ public class MainApp extends Application {
     protected Model model;
     protected Config config;
     protected UserPrefs userPrefs;
+    protected CompletableFuture<ReadOnlyTaskMan> initialDataLoad;
+    protected StartupTimer startupTimer;
 
     public MainApp() {
     }
 
+    /**
+     * The data is read on a background thread while the rest of the app is initialized,
+     * and shown once the window is up. See {@link #showInitialData(ReadOnlyTaskMan)}.
+     */
     @Override
     public void init() throws Exception {
         logger.info("=============================[ Initializing TaskMan ]===========================");
         super.init();
+        startupTimer = new StartupTimer();
 
+        long stageStart = System.nanoTime();
         config = Config.getInstance();
 
         initConfig(getApplicationParameter("config"));
-        storage = new StorageManager(Config.getInstance().getTaskManFilePath(), config.getUserPrefsFilePath());
-
-        userPrefs = initPrefs(config);
+        storage = new StorageManager(Config.getInstance().getTaskManFilePath(), config.getUserPrefsFilePath(),
+                config.getTaskManStorageFormat(), config.getTaskManSaveDelayMillis());
 
         initLogging(config);
 
-        model = initModelManager(storage, userPrefs);
+        initMetrics(config);
+        startupTimer.recordStage("config", stageStart);
+
+        initialDataLoad = readInitialDataInBackground(storage);
+
+        stageStart = System.nanoTime();
+        userPrefs = initPrefs(config);
+        startupTimer.recordStage("prefs", stageStart);
+
+        stageStart = System.nanoTime();
+        model = new ModelManager(new TaskMan()); // empty until the data is read
 
         logic = new LogicManager(model, storage);
 
         ui = new UiManager(logic, config, userPrefs);
 
         initEventsCenter();
+        startupTimer.recordStage("components", stageStart);
     }
 
     private String getApplicationParameter(String parameterName) {
@@ -71,7 +95,27 @@ public class MainApp extends Application {
         return applicationParameters.get(parameterName);
     }
 
-    private Model initModelManager(Storage storage, UserPrefs userPrefs) {
+    private CompletableFuture<ReadOnlyTaskMan> readInitialDataInBackground(Storage storage) {
+        ExecutorService loader = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "TaskMan data loader");
+            thread.setDaemon(true);
+            return thread;
+        });
+        CompletableFuture<ReadOnlyTaskMan> data = CompletableFuture.supplyAsync(() -> {
+            long stageStart = System.nanoTime();
+            ReadOnlyTaskMan read = readInitialData(storage);
+            startupTimer.recordStage("data", stageStart);
+            return read;
+        }, loader).exceptionally(e -> {
+            logger.severe("Failed to read the data file. Will be starting with an empty TaskMan "
+                    + StringUtil.getDetails(e));
+            return new TaskMan();
+        });
+        loader.shutdown();
+        return data;
+    }
+
+    private ReadOnlyTaskMan readInitialData(Storage storage) {
         Optional<ReadOnlyTaskMan> taskManOptional;
         ReadOnlyTaskMan initialData;
         try {
@@ -88,13 +132,20 @@ public class MainApp extends Application {
             initialData = new TaskMan();
         }
 
-        return new ModelManager(initialData);
+        return initialData;
     }
 
     private void initLogging(Config config) {
         LogsCenter.init(config);
     }
 
+    private void initMetrics(Config config) {
+        if (config.getMetricsDumpIntervalSeconds() > 0) {
+            MetricsCenter.getInstance().startPeriodicDump(new File(config.getMetricsFilePath()),
+                    config.getMetricsDumpIntervalSeconds());
+        }
+    }
+
     protected void initConfig(String configFilePath) {
         String configFilePathUsed;
 
@@ -159,18 +210,46 @@ public class MainApp extends Application {
     @Override
     public void start(Stage primaryStage) {
         logger.info("Starting TaskMan " + MainApp.VERSION);
+        long stageStart = System.nanoTime();
         ui.start(primaryStage);
+        ui.setLoading(true);
+        startupTimer.recordStage("window", stageStart);
+
+        initialDataLoad.thenAcceptAsync(this::showInitialData, Platform::runLater);
+    }
+
+    /**
+     * Fills the model with the data read at startup, which completes the startup. Must be run on the FX thread.
+     */
+    protected void showInitialData(ReadOnlyTaskMan data) {
+        long stageStart = System.nanoTime();
+        model.loadData(data);
+        ui.setLoading(false);
+        startupTimer.recordStage("model", stageStart);
+        startupTimer.recordTotal();
+
+        String reportFilePath = config.getStartupReportFilePath();
+        if (!reportFilePath.isEmpty()) {
+            try {
+                startupTimer.writeReport(new File(reportFilePath));
+            } catch (IOException e) {
+                logger.warning("Failed to write startup report : " + StringUtil.getDetails(e));
+            }
+        }
     }
 
     @Override
     public void stop() {
         logger.info("============================ [ Stopping TaskMan ] =============================");
         ui.stop();
+        storage.flushPendingSave();
+        MetricsCenter.getInstance().stopPeriodicDump();
         try {
             storage.saveUserPrefs(userPrefs);
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
+        LogsCenter.flush();
         Platform.exit();
         System.exit(0);
     }
@@ -0,0 +1,173 @@
+package seedu.taskman.commons.core;
+
+import seedu.taskman.commons.core.config.ConfigData.LogOverflowPolicy;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.ErrorManager;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+/**
+ * Writes log records to other handlers on a dedicated thread, so that logging never waits for I/O.
+ * <p>
+ * Records wait in a bounded queue and are written in batches, flushing the handlers once per batch.
+ * When the queue is full, the {@link LogOverflowPolicy} decides whether a record is dropped or the logging
+ * thread waits. The number of dropped records is logged once there is space again.
+ */
+public class AsyncLogHandler extends Handler {
+    private static final int MAX_BATCH_SIZE = 256;
+
+    private final List<Handler> targets;
+    private final BlockingQueue<LogRecord> queue;
+    private final LogOverflowPolicy overflowPolicy;
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final Thread writer;
+
+    private volatile boolean closed;
+
+    public AsyncLogHandler(int capacity, LogOverflowPolicy overflowPolicy, Handler... targets) {
+        assert capacity > 0;
+        this.targets = Arrays.asList(targets);
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.overflowPolicy = overflowPolicy;
+        writer = new Thread(this::writeRecords, "TaskMan log writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    @Override
+    public void publish(LogRecord record) {
+        if (closed || !isLoggable(record)) {
+            return;
+        }
+        // the caller is found from the stack, which is only available on the logging thread
+        record.getSourceClassName();
+
+        if (overflowPolicy == LogOverflowPolicy.BLOCK) {
+            putUninterruptibly(record);
+        } else if (!queue.offer(record)) {
+            droppedCount.incrementAndGet();
+        }
+    }
+
+    /**
+     * Waits until the records published so far have been written and the handlers flushed.
+     */
+    @Override
+    public void flush() {
+        if (closed || Thread.currentThread() == writer) {
+            return;
+        }
+        FlushRequest request = new FlushRequest();
+        putUninterruptibly(request);
+        try {
+            request.done.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Writes the remaining records and stops the writer thread, leaving the handlers open.
+     * Records published afterwards are ignored.
+     */
+    public void stopWriting() {
+        flush();
+        closed = true;
+        writer.interrupt();
+    }
+
+    /**
+     * Writes the remaining records, then closes the handlers.
+     */
+    @Override
+    public void close() {
+        stopWriting();
+        for (Handler target : targets) {
+            target.close();
+        }
+    }
+
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    private void putUninterruptibly(LogRecord record) {
+        boolean interrupted = false;
+        while (true) {
+            try {
+                queue.put(record);
+                break;
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void writeRecords() {
+        List<LogRecord> batch = new ArrayList<>(MAX_BATCH_SIZE);
+        long reportedDropCount = 0;
+        while (!closed) {
+            try {
+                batch.add(queue.take());
+            } catch (InterruptedException e) {
+                continue;
+            }
+            queue.drainTo(batch, MAX_BATCH_SIZE - 1);
+
+            long dropCount = droppedCount.get();
+            if (dropCount > reportedDropCount) {
+                writeToTargets(new LogRecord(Level.WARNING,
+                        (dropCount - reportedDropCount) + " log records dropped as the log queue was full"));
+                reportedDropCount = dropCount;
+            }
+            for (LogRecord record : batch) {
+                if (record instanceof FlushRequest) {
+                    flushTargets();
+                    ((FlushRequest) record).done.countDown();
+                } else {
+                    writeToTargets(record);
+                }
+            }
+            flushTargets();
+            batch.clear();
+        }
+    }
+
+    private void writeToTargets(LogRecord record) {
+        for (Handler target : targets) {
+            try {
+                target.publish(record);
+            } catch (RuntimeException e) {
+                reportError("Failed to write log record", e, ErrorManager.WRITE_FAILURE);
+            }
+        }
+    }
+
+    private void flushTargets() {
+        for (Handler target : targets) {
+            target.flush();
+        }
+    }
+
+    /**
+     * Marks the point in the queue up to which records must be written before a {@link #flush()} returns
+     */
+    private static class FlushRequest extends LogRecord {
+        private final CountDownLatch done = new CountDownLatch(1);
+
+        FlushRequest() {
+            super(Level.OFF, null);
+        }
+    }
+}
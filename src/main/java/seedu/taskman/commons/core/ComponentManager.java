@@ -18,8 +18,15 @@ public abstract class ComponentManager {
     }
 
     public ComponentManager(EventsCenter eventsCenter) {
+        this(eventsCenter, EventsCenter.DispatchLane.CALLER);
+    }
+
+    /**
+     * Registers the event handlers on the given lane of the {@link EventsCenter}
+     */
+    public ComponentManager(EventsCenter eventsCenter, EventsCenter.DispatchLane lane) {
         this.eventsCenter = eventsCenter;
-        eventsCenter.registerHandler(this);
+        eventsCenter.registerHandler(this, lane);
     }
 
     protected void raise(BaseEvent event) {
@@ -1,18 +1,61 @@
 package seedu.taskman.commons.core;
 
+import com.google.common.eventbus.AsyncEventBus;
 import com.google.common.eventbus.EventBus;
+import com.google.common.eventbus.Subscribe;
+import javafx.application.Platform;
 import seedu.taskman.commons.events.BaseEvent;
 
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Logger;
 
 /**
  * Manages the event dispatching of the app.
+ * <p>
+ * Each handler is registered on a {@link DispatchLane}, which decides the thread its handler methods run on.
+ * Within a lane, events are handled in the order they were posted.
+ * Posted events are logged on the {@link DispatchLane#BACKGROUND} lane, so the poster does not wait for the log.
  */
 public class EventsCenter {
+    public static final String METRIC_EVENT_PREFIX = "events.";
+    public static final String METRIC_LANE_PREFIX = "events.lane.";
+    public static final String METRIC_QUEUE_PREFIX = "events.queue.";
+
     private static final Logger logger = LogsCenter.getLogger(EventsCenter.class);
-    private final EventBus eventBus;
+    private static final long LANE_THREAD_KEEP_ALIVE_SECONDS = 60;
     private static EventsCenter instance;
 
+    private final Map<DispatchLane, EventBus> eventBuses = new EnumMap<>(DispatchLane.class);
+    private final Map<DispatchLane, ExecutorService> laneExecutors = new EnumMap<>(DispatchLane.class);
+    private final Map<DispatchLane, AtomicInteger> queueDepths = new EnumMap<>(DispatchLane.class);
+    private final Set<DispatchLane> usedLanes = Collections.newSetFromMap(new ConcurrentHashMap<>());
+
+    /**
+     * Where the handlers registered on a lane run
+     */
+    public enum DispatchLane {
+        /** On the thread which posts the event, before {@code post} returns */
+        CALLER,
+        /** On the JavaFX application thread, after the events already queued for it */
+        FX,
+        /** On a background thread which only handles storage */
+        STORAGE,
+        /** On a background thread shared by other slow handlers, such as the logging of posted events */
+        BACKGROUND
+    }
+
     public static EventsCenter getInstance() {
         if (instance == null) {
             instance = new EventsCenter();
@@ -25,21 +68,116 @@ public class EventsCenter {
     }
 
     private EventsCenter() {
-        eventBus = new EventBus();
+        for (DispatchLane lane : DispatchLane.values()) {
+            queueDepths.put(lane, new AtomicInteger());
+        }
+        eventBuses.put(DispatchLane.CALLER, new EventBus());
+        eventBuses.put(DispatchLane.FX, new AsyncEventBus(DispatchLane.FX.name(),
+                measured(DispatchLane.FX, Platform::runLater)));
+        for (DispatchLane lane : new DispatchLane[]{DispatchLane.STORAGE, DispatchLane.BACKGROUND}) {
+            ExecutorService executor = createLaneExecutor(lane);
+            laneExecutors.put(lane, executor);
+            eventBuses.put(lane, new AsyncEventBus(lane.name(), measured(lane, executor)));
+        }
+        registerHandler(new EventLogger(), DispatchLane.BACKGROUND);
+    }
+
+    /**
+     * The lane thread stops when idle and is started again by the next event,
+     * so that discarded instances do not keep threads alive.
+     */
+    private static ExecutorService createLaneExecutor(DispatchLane lane) {
+        return new ThreadPoolExecutor(0, 1, LANE_THREAD_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), runnable -> {
+                    Thread thread = new Thread(runnable, "TaskMan events " + lane.name().toLowerCase());
+                    thread.setDaemon(true);
+                    return thread;
+                });
     }
 
+    /**
+     * Wraps the executor of a lane to keep track of its queue depth and of the time taken
+     * from posting an event to the end of its handling.
+     */
+    private Executor measured(DispatchLane lane, Executor executor) {
+        AtomicInteger queueDepth = queueDepths.get(lane);
+        return runnable -> {
+            long postStart = System.nanoTime();
+            MetricsCenter.getInstance().setGauge(METRIC_QUEUE_PREFIX + lane, queueDepth.incrementAndGet());
+            executor.execute(() -> {
+                try {
+                    runnable.run();
+                } finally {
+                    MetricsCenter metrics = MetricsCenter.getInstance();
+                    metrics.setGauge(METRIC_QUEUE_PREFIX + lane, queueDepth.decrementAndGet());
+                    metrics.getHistogram(METRIC_LANE_PREFIX + lane).recordSince(postStart);
+                }
+            });
+        };
+    }
+
+    /**
+     * Registers the handler on the {@link DispatchLane#CALLER} lane
+     */
     public EventsCenter registerHandler(Object handler) {
-        eventBus.register(handler);
+        return registerHandler(handler, DispatchLane.CALLER);
+    }
+
+    public EventsCenter registerHandler(Object handler, DispatchLane lane) {
+        eventBuses.get(lane).register(handler);
+        usedLanes.add(lane);
         return this;
     }
 
     /**
-     * Posts an event to the event bus.
+     * Returns the number of handler calls on the lane which have not finished yet
+     */
+    public int getQueueDepth(DispatchLane lane) {
+        return queueDepths.get(lane).get();
+    }
+
+    /**
+     * Waits until the handlers on a background lane have handled all events posted so far.
+     * Must not be called from a handler on that lane.
+     */
+    public void awaitDispatch(DispatchLane lane) {
+        ExecutorService executor = laneExecutors.get(lane);
+        if (executor == null) {
+            return;
+        }
+        try {
+            executor.submit(() -> { }).get();
+        } catch (InterruptedException | ExecutionException | RejectedExecutionException e) {
+            logger.warning("Failed to wait for the events on lane " + lane + ": " + e);
+        }
+    }
+
+    /**
+     * Posts an event to the handlers on every lane, starting with the {@link DispatchLane#CALLER} lane.
+     * The time taken by the handlers of each type of event on the caller thread is recorded in
+     * the {@link MetricsCenter}.
      */
     public <E extends BaseEvent> EventsCenter post(E event) {
-        logger.info("------[Event Posted] " + event.getClass().getCanonicalName() + ": " + event.toString());
-        eventBus.post(event);
+        long postStart = System.nanoTime();
+        for (DispatchLane lane : DispatchLane.values()) {
+            if (usedLanes.contains(lane)) {
+                eventBuses.get(lane).post(event);
+            }
+        }
+        MetricsCenter.getInstance()
+                .getHistogram(METRIC_EVENT_PREFIX + event.getClass().getSimpleName())
+                .recordSince(postStart);
         return this;
     }
 
+    /**
+     * Logs every event posted
+     */
+    private static class EventLogger {
+        @Subscribe
+        public void logEvent(BaseEvent event) {
+            logger.info(() -> "------[Event Posted] " + event.getClass().getCanonicalName() + ": " + event.toString());
+        }
+    }
+
 }
@@ -1,9 +1,14 @@
 package seedu.taskman.commons.core;
 
 import seedu.taskman.commons.core.config.Config;
+import seedu.taskman.commons.core.config.ConfigData;
 import seedu.taskman.commons.events.BaseEvent;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.*;
 
 /**
@@ -12,72 +17,108 @@ import java.util.logging.*;
  * These loggers have been configured to output messages to the console and a {@code .log} file by default,
  * at the {@code INFO} level. A new {@code .log} file with a new numbering will be created after the log
  * file reaches 5MB big, up to a maximum of 5 files.<br>
+ * Messages are written on a background thread by an {@link AsyncLogHandler}, so logging does not wait for I/O.
  */
 public class LogsCenter {
     private static final int MAX_FILE_COUNT = 5;
     private static final int MAX_FILE_SIZE_IN_BYTES = (int) (Math.pow(2, 20) * 5); // 5MB
     private static final String LOG_FILE = "taskMan.log";
+    private static final Map<String, Logger> loggers = new ConcurrentHashMap<>();
     private static Level currentLogLevel = Level.INFO;
+    private static Handler[] targetHandlers;
+    private static AsyncLogHandler asyncHandler = createAsyncHandler(ConfigData.DEFAULT_LOG_QUEUE_CAPACITY,
+            ConfigData.DEFAULT_LOG_OVERFLOW_POLICY);
     private static final Logger logger = LogsCenter.getLogger(LogsCenter.class);
-    private static FileHandler fileHandler;
-    private static ConsoleHandler consoleHandler;
 
     /**
-     * Initializes with a custom log level (specified in the {@code config} object)
-     * Loggers obtained *AFTER* this initialization will have their logging level changed<br>
-     * Logging levels for existing loggers will only be updated if the logger with the same name is requested again
-     * from the LogsCenter.
+     * Initializes with a custom log level, log queue capacity and overflow policy
+     * (specified in the {@code config} object).
+     * Loggers obtained before this initialization are updated as well.
      */
     public static void init(Config config) {
-        currentLogLevel = config.getLogLevel();
-        logger.info("currentLogLevel: " + currentLogLevel);
+        synchronized (LogsCenter.class) {
+            currentLogLevel = config.getLogLevel();
+            AsyncLogHandler previousHandler = asyncHandler;
+            previousHandler.flush();
+            asyncHandler = createAsyncHandler(config.getLogQueueCapacity(), config.getLogOverflowPolicy());
+            for (Logger registered : loggers.values()) {
+                registered.removeHandler(previousHandler);
+                configure(registered);
+            }
+            previousHandler.stopWriting();
+        }
+        logger.info(() -> "currentLogLevel: " + currentLogLevel);
+    }
+
+    /**
+     * Waits until the messages logged so far have been written.
+     */
+    public static void flush() {
+        asyncHandler.flush();
     }
 
     /**
-     * Creates a logger with the given name the given name.
+     * Returns the logger with the given name, configuring it the first time it is requested.
      */
     public static Logger getLogger(String name) {
+        Logger registered = loggers.get(name);
+        if (registered != null) {
+            return registered;
+        }
+        synchronized (LogsCenter.class) {
+            return loggers.computeIfAbsent(name, LogsCenter::createLogger);
+        }
+    }
+
+    private static Logger createLogger(String name) {
         Logger logger = Logger.getLogger(name);
         logger.setUseParentHandlers(false);
-
-        removeHandlers(logger);
-        addConsoleHandler(logger);
-        addFileHandler(logger);
-
-        return Logger.getLogger(name);
+        for (Handler handler : logger.getHandlers()) {
+            logger.removeHandler(handler);
+        }
+        configure(logger);
+        return logger;
     }
 
-    private static void addConsoleHandler(Logger logger) {
-        if (consoleHandler == null) consoleHandler = createConsoleHandler();
-        logger.addHandler(consoleHandler);
+    private static void configure(Logger logger) {
+        logger.setLevel(currentLogLevel);
+        logger.addHandler(asyncHandler);
     }
 
-    private static void removeHandlers(Logger logger) {
-        Handler[] handlers = logger.getHandlers();
-        for (Handler handler : handlers) {
-            logger.removeHandler(handler);
-        }
+    /**
+     * The console and file handlers are shared by every async handler created,
+     * as only one handler can hold the log file.
+     */
+    private static AsyncLogHandler createAsyncHandler(int capacity, ConfigData.LogOverflowPolicy overflowPolicy) {
+        AsyncLogHandler handler = new AsyncLogHandler(capacity, overflowPolicy, getTargetHandlers());
+        handler.setLevel(currentLogLevel);
+        return handler;
     }
 
-    private static void addFileHandler(Logger logger) {
+    private static Handler[] getTargetHandlers() {
+        if (targetHandlers != null) {
+            return targetHandlers;
+        }
+        List<Handler> handlers = new ArrayList<>();
+        handlers.add(createConsoleHandler());
         try {
-            if (fileHandler == null) fileHandler = createFileHandler();
-            logger.addHandler(fileHandler);
+            handlers.add(createFileHandler());
         } catch (IOException e) {
-            logger.warning("Error adding file handler for logger.");
+            System.err.println("Error adding file handler for logger: " + e);
         }
+        targetHandlers = handlers.toArray(new Handler[handlers.size()]);
+        return targetHandlers;
     }
 
     private static FileHandler createFileHandler() throws IOException {
         FileHandler fileHandler = new FileHandler(LOG_FILE, MAX_FILE_SIZE_IN_BYTES, MAX_FILE_COUNT, true);
         fileHandler.setFormatter(new SimpleFormatter());
-        fileHandler.setLevel(currentLogLevel);
         return fileHandler;
     }
 
     private static ConsoleHandler createConsoleHandler() {
         ConsoleHandler consoleHandler = new ConsoleHandler();
-        consoleHandler.setLevel(currentLogLevel);
+        consoleHandler.setLevel(Level.ALL);
         return consoleHandler;
     }
 
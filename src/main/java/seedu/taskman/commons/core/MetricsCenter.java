@@ -0,0 +1,197 @@
+package seedu.taskman.commons.core;
+
+import seedu.taskman.commons.util.FileUtil;
+import seedu.taskman.commons.util.JsonUtil;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Logger;
+
+/**
+ * Collects the metrics of the app, identified by name: counters, latency histograms and gauges.
+ * Metrics are created on first use and can be recorded from any thread.
+ * <p>
+ * The metrics can be summarised for the user, or appended periodically to a file as JSON,
+ * one snapshot per line, for offline analysis.
+ */
+public class MetricsCenter {
+    private static final Logger logger = LogsCenter.getLogger(MetricsCenter.class);
+    private static final double NANOS_PER_MILLI = TimeUnit.MILLISECONDS.toNanos(1);
+    private static MetricsCenter instance;
+
+    private final long startNanos = System.nanoTime();
+    private final Map<String, LongAdder> counters = new ConcurrentHashMap<>();
+    private final Map<String, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+    private final Map<String, AtomicLong> gauges = new ConcurrentHashMap<>();
+
+    private ScheduledExecutorService dumpExecutor;
+    private File dumpFile;
+
+    public static synchronized MetricsCenter getInstance() {
+        if (instance == null) {
+            instance = new MetricsCenter();
+        }
+        return instance;
+    }
+
+    /**
+     * Discards all metrics recorded so far
+     */
+    public static synchronized void resetInstance() {
+        if (instance != null) {
+            instance.stopPeriodicDump();
+        }
+        instance = null;
+    }
+
+    private MetricsCenter() {
+    }
+
+    public void increment(String counterName) {
+        counters.computeIfAbsent(counterName, name -> new LongAdder()).increment();
+    }
+
+    public long getCount(String counterName) {
+        LongAdder counter = counters.get(counterName);
+        return counter == null ? 0 : counter.sum();
+    }
+
+    /**
+     * Returns the histogram with the given name, creating it if it does not exist yet
+     */
+    public LatencyHistogram getHistogram(String histogramName) {
+        return histograms.computeIfAbsent(histogramName, name -> new LatencyHistogram());
+    }
+
+    public void setGauge(String gaugeName, long value) {
+        gauges.computeIfAbsent(gaugeName, name -> new AtomicLong()).set(value);
+    }
+
+    public long getGauge(String gaugeName) {
+        AtomicLong gauge = gauges.get(gaugeName);
+        return gauge == null ? 0 : gauge.get();
+    }
+
+    public long getUptimeMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+    }
+
+    /**
+     * Returns a human readable summary of all metrics, ordered by name
+     */
+    public String getSummary() {
+        StringBuilder summary = new StringBuilder();
+        summary.append(String.format("Uptime: %d s", TimeUnit.MILLISECONDS.toSeconds(getUptimeMillis())));
+
+        summary.append("\nLatencies (ms):");
+        new TreeMap<>(histograms).forEach((name, histogram) -> summary.append(String.format(
+                "\n\t%s: count %d, mean %.3f, p50 %.3f, p90 %.3f, p99 %.3f, max %.3f",
+                name,
+                histogram.getCount(),
+                histogram.getMeanNanos() / NANOS_PER_MILLI,
+                histogram.getNanosAtPercentile(50) / NANOS_PER_MILLI,
+                histogram.getNanosAtPercentile(90) / NANOS_PER_MILLI,
+                histogram.getNanosAtPercentile(99) / NANOS_PER_MILLI,
+                histogram.getMaxNanos() / NANOS_PER_MILLI)));
+
+        summary.append("\nCounters:");
+        new TreeMap<>(counters).forEach((name, counter) ->
+                summary.append("\n\t").append(name).append(": ").append(counter.sum()));
+
+        summary.append("\nGauges:");
+        new TreeMap<>(gauges).forEach((name, gauge) ->
+                summary.append("\n\t").append(name).append(": ").append(gauge.get()));
+        return summary.toString();
+    }
+
+    //=========== Periodic Dump ==========================================================================
+
+    /**
+     * Appends a snapshot of the metrics to the file at the given interval, until {@link #stopPeriodicDump()}.
+     * Replaces any periodic dump already started.
+     */
+    public synchronized void startPeriodicDump(File file, long intervalSeconds) {
+        assert intervalSeconds > 0;
+        stopPeriodicDump();
+        dumpFile = file;
+        dumpExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "TaskMan metrics");
+            thread.setDaemon(true);
+            return thread;
+        });
+        dumpExecutor.scheduleAtFixedRate(() -> dumpTo(file), intervalSeconds, intervalSeconds, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Stops the periodic dump, if started, after appending a final snapshot
+     */
+    public synchronized void stopPeriodicDump() {
+        if (dumpExecutor == null) {
+            return;
+        }
+        dumpExecutor.shutdownNow();
+        dumpExecutor = null;
+        dumpTo(dumpFile);
+    }
+
+    private void dumpTo(File file) {
+        try {
+            FileUtil.createIfMissing(file);
+            String line = JsonUtil.toCompactJsonString(getSnapshot()) + System.lineSeparator();
+            Files.write(file.toPath(), line.getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            logger.warning("Failed to dump metrics to " + file + ": " + e);
+        }
+    }
+
+    MetricsSnapshot getSnapshot() {
+        MetricsSnapshot snapshot = new MetricsSnapshot();
+        snapshot.timestamp = Instant.now().toString();
+        snapshot.uptimeMillis = getUptimeMillis();
+        counters.forEach((name, counter) -> snapshot.counters.put(name, counter.sum()));
+        gauges.forEach((name, gauge) -> snapshot.gauges.put(name, gauge.get()));
+        histograms.forEach((name, histogram) -> snapshot.latencies.put(name, new HistogramSnapshot(histogram)));
+        return snapshot;
+    }
+
+    /**
+     * Values of all metrics at one time, as written to the dump file
+     */
+    static class MetricsSnapshot {
+        String timestamp;
+        long uptimeMillis;
+        Map<String, Long> counters = new TreeMap<>();
+        Map<String, Long> gauges = new TreeMap<>();
+        Map<String, HistogramSnapshot> latencies = new TreeMap<>();
+    }
+
+    static class HistogramSnapshot {
+        long count;
+        long meanNanos;
+        long p50Nanos;
+        long p90Nanos;
+        long p99Nanos;
+        long maxNanos;
+
+        HistogramSnapshot(LatencyHistogram histogram) {
+            count = histogram.getCount();
+            meanNanos = histogram.getMeanNanos();
+            p50Nanos = histogram.getNanosAtPercentile(50);
+            p90Nanos = histogram.getNanosAtPercentile(90);
+            p99Nanos = histogram.getNanosAtPercentile(99);
+            maxNanos = histogram.getMaxNanos();
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package seedu.taskman.commons.core;
+
+import seedu.taskman.commons.util.FileUtil;
+import seedu.taskman.commons.util.JsonUtil;
+
+import java.io.File;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+/**
+ * Measures the stages of the startup of the app, which may run in parallel on different threads.
+ * Each stage is logged when it ends and kept as a gauge in the {@link MetricsCenter}.
+ */
+public class StartupTimer {
+    public static final String METRIC_STARTUP_PREFIX = "startup.millis.";
+    public static final String STAGE_TOTAL = "total";
+
+    private static final Logger logger = LogsCenter.getLogger(StartupTimer.class);
+
+    private final long startNanos = System.nanoTime();
+    // in the order the stages ended. Guarded by this
+    private final Map<String, Long> stageMillis = new LinkedHashMap<>();
+
+    /**
+     * Records a stage which started at the given time, as returned by {@link System#nanoTime()}, and ends now
+     */
+    public void recordStage(String stage, long stageStartNanos) {
+        long millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - stageStartNanos);
+        synchronized (this) {
+            stageMillis.put(stage, millis);
+        }
+        MetricsCenter.getInstance().setGauge(METRIC_STARTUP_PREFIX + stage, millis);
+        logger.info(() -> "Startup stage " + stage + " took " + millis + " ms");
+    }
+
+    /**
+     * Records the {@link #STAGE_TOTAL} stage, from the creation of this timer until now
+     */
+    public void recordTotal() {
+        recordStage(STAGE_TOTAL, startNanos);
+    }
+
+    /**
+     * Writes the time taken by each stage recorded so far to the file, as JSON
+     */
+    public void writeReport(File file) throws IOException {
+        StartupReport report = new StartupReport();
+        report.timestamp = Instant.now().toString();
+        synchronized (this) {
+            report.stageMillis.putAll(stageMillis);
+        }
+        FileUtil.createIfMissing(file);
+        FileUtil.writeToFile(file, JsonUtil.toJsonString(report));
+    }
+
+    static class StartupReport {
+        String timestamp;
+        Map<String, Long> stageMillis = new LinkedHashMap<>();
+    }
+}
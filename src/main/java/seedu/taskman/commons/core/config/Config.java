@@ -78,7 +78,9 @@ public class Config extends ConfigData {
     //@@author
     @Override
     public int hashCode() {
-        return Objects.hash(appTitle, logLevel, userPrefsFilePath, taskManFilePath, taskManName);
+        return Objects.hash(appTitle, logLevel, userPrefsFilePath, taskManFilePath, taskManName,
+                taskManStorageFormat, taskManSaveDelayMillis, metricsFilePath, metricsDumpIntervalSeconds,
+                logQueueCapacity, logOverflowPolicy, startupReportFilePath);
     }
 
     @Override
@@ -89,6 +91,13 @@ public class Config extends ConfigData {
         sb.append("\nPreference file Location : " + userPrefsFilePath);
         sb.append("\nLocal data file location : " + taskManFilePath);
         sb.append("\nTaskMan name : " + taskManName);
+        sb.append("\nStorage format : " + taskManStorageFormat);
+        sb.append("\nSave delay (ms) : " + taskManSaveDelayMillis);
+        sb.append("\nMetrics file location : " + metricsFilePath);
+        sb.append("\nMetrics dump interval (s) : " + metricsDumpIntervalSeconds);
+        sb.append("\nLog queue capacity : " + logQueueCapacity);
+        sb.append("\nLog overflow policy : " + logOverflowPolicy);
+        sb.append("\nStartup report file location : " + startupReportFilePath);
         return sb.toString();
     }
 
@@ -9,11 +9,35 @@ import java.util.logging.Level;
  */
 public class ConfigData {
 
+    /**
+     * Formats in which the TaskMan data file can be stored
+     */
+    public enum StorageFormat {
+        XML, JOURNAL, BINARY
+    }
+
+    /**
+     * What to do with a log record when the queue of records waiting to be written is full
+     */
+    public enum LogOverflowPolicy {
+        /** Discards the record, so logging never waits */
+        DROP,
+        /** Waits until there is space in the queue, so no record is lost */
+        BLOCK
+    }
+
     public static final String DEFAULT_APP_TITLE = "TaskMan";
     public static final Level DEFAULT_LOG_LEVEL = Level.INFO;
     public static final String DEFAULT_USER_PREFS_FILE_PATH = "preferences.json";
     public static final String DEFAULT_TASK_MAN_FILE_PATH = "./data/taskMan.xml";
     public static final String DEFAULT_TASK_MAN_NAME = "MyTaskMan";
+    public static final StorageFormat DEFAULT_TASK_MAN_STORAGE_FORMAT = StorageFormat.XML;
+    public static final long DEFAULT_TASK_MAN_SAVE_DELAY_MILLIS = 200;
+    public static final String DEFAULT_METRICS_FILE_PATH = "./data/metrics.json";
+    public static final long DEFAULT_METRICS_DUMP_INTERVAL_SECONDS = 0; // not dumped
+    public static final int DEFAULT_LOG_QUEUE_CAPACITY = 8192;
+    public static final LogOverflowPolicy DEFAULT_LOG_OVERFLOW_POLICY = LogOverflowPolicy.DROP;
+    public static final String DEFAULT_STARTUP_REPORT_FILE_PATH = ""; // not written
 
     // Config values customizable through config file
     protected String appTitle = DEFAULT_APP_TITLE;
@@ -21,6 +45,13 @@ public class ConfigData {
     protected String userPrefsFilePath = DEFAULT_USER_PREFS_FILE_PATH;
     protected String taskManFilePath = DEFAULT_TASK_MAN_FILE_PATH;
     protected String taskManName = DEFAULT_TASK_MAN_NAME;
+    protected StorageFormat taskManStorageFormat = DEFAULT_TASK_MAN_STORAGE_FORMAT;
+    protected long taskManSaveDelayMillis = DEFAULT_TASK_MAN_SAVE_DELAY_MILLIS;
+    protected String metricsFilePath = DEFAULT_METRICS_FILE_PATH;
+    protected long metricsDumpIntervalSeconds = DEFAULT_METRICS_DUMP_INTERVAL_SECONDS;
+    protected int logQueueCapacity = DEFAULT_LOG_QUEUE_CAPACITY;
+    protected LogOverflowPolicy logOverflowPolicy = DEFAULT_LOG_OVERFLOW_POLICY;
+    protected String startupReportFilePath = DEFAULT_STARTUP_REPORT_FILE_PATH;
 
     public String getAppTitle() {
         return appTitle;
@@ -62,6 +93,62 @@ public class ConfigData {
         this.taskManName = taskManName;
     }
 
+    public StorageFormat getTaskManStorageFormat() {
+        return taskManStorageFormat;
+    }
+
+    public void setTaskManStorageFormat(StorageFormat taskManStorageFormat) {
+        this.taskManStorageFormat = taskManStorageFormat;
+    }
+
+    public long getTaskManSaveDelayMillis() {
+        return taskManSaveDelayMillis;
+    }
+
+    public void setTaskManSaveDelayMillis(long taskManSaveDelayMillis) {
+        this.taskManSaveDelayMillis = taskManSaveDelayMillis;
+    }
+
+    public String getMetricsFilePath() {
+        return metricsFilePath;
+    }
+
+    public void setMetricsFilePath(String metricsFilePath) {
+        this.metricsFilePath = metricsFilePath;
+    }
+
+    public long getMetricsDumpIntervalSeconds() {
+        return metricsDumpIntervalSeconds;
+    }
+
+    public void setMetricsDumpIntervalSeconds(long metricsDumpIntervalSeconds) {
+        this.metricsDumpIntervalSeconds = metricsDumpIntervalSeconds;
+    }
+
+    public int getLogQueueCapacity() {
+        return logQueueCapacity;
+    }
+
+    public void setLogQueueCapacity(int logQueueCapacity) {
+        this.logQueueCapacity = logQueueCapacity;
+    }
+
+    public LogOverflowPolicy getLogOverflowPolicy() {
+        return logOverflowPolicy;
+    }
+
+    public void setLogOverflowPolicy(LogOverflowPolicy logOverflowPolicy) {
+        this.logOverflowPolicy = logOverflowPolicy;
+    }
+
+    public String getStartupReportFilePath() {
+        return startupReportFilePath;
+    }
+
+    public void setStartupReportFilePath(String startupReportFilePath) {
+        this.startupReportFilePath = startupReportFilePath;
+    }
+
     //@@author A0121299A
 
     /**
@@ -75,6 +162,13 @@ public class ConfigData {
         toUpdate.userPrefsFilePath = source.userPrefsFilePath;
         toUpdate.taskManFilePath = source.taskManFilePath;
         toUpdate.taskManName = source.taskManName;
+        toUpdate.taskManStorageFormat = source.taskManStorageFormat;
+        toUpdate.taskManSaveDelayMillis = source.taskManSaveDelayMillis;
+        toUpdate.metricsFilePath = source.metricsFilePath;
+        toUpdate.metricsDumpIntervalSeconds = source.metricsDumpIntervalSeconds;
+        toUpdate.logQueueCapacity = source.logQueueCapacity;
+        toUpdate.logOverflowPolicy = source.logOverflowPolicy;
+        toUpdate.startupReportFilePath = source.startupReportFilePath;
     }
 
     /**
@@ -103,7 +197,14 @@ public class ConfigData {
                 && Objects.equals(logLevel, o.logLevel)
                 && Objects.equals(userPrefsFilePath, o.userPrefsFilePath)
                 && Objects.equals(taskManFilePath, o.taskManFilePath)
-                && Objects.equals(taskManName, o.taskManName);
+                && Objects.equals(taskManName, o.taskManName)
+                && Objects.equals(taskManStorageFormat, o.taskManStorageFormat)
+                && taskManSaveDelayMillis == o.taskManSaveDelayMillis
+                && Objects.equals(metricsFilePath, o.metricsFilePath)
+                && metricsDumpIntervalSeconds == o.metricsDumpIntervalSeconds
+                && logQueueCapacity == o.logQueueCapacity
+                && Objects.equals(logOverflowPolicy, o.logOverflowPolicy)
+                && Objects.equals(startupReportFilePath, o.startupReportFilePath);
     }
 
 }
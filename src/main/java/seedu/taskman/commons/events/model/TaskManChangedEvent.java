@@ -2,20 +2,51 @@ package seedu.taskman.commons.events.model;
 
 import seedu.taskman.commons.events.BaseEvent;
 import seedu.taskman.model.ReadOnlyTaskMan;
+import seedu.taskman.model.TaskManChangeSet;
+import seedu.taskman.model.TaskManSnapshot;
+
+import java.util.Optional;
 
 /**
  * Indicates the TaskMan in the model has changed
  */
 public class TaskManChangedEvent extends BaseEvent {
 
+    /**
+     * The data as it was when the change happened, safe to read from handlers on any thread.
+     * Its activities are only worked out when they are asked for.
+     */
     public final ReadOnlyTaskMan data;
 
+    /**
+     * Version of the model after the change, increasing with every change. 0 if not known.
+     */
+    public final long version;
+
+    private final TaskManChangeSet changes;
+
+    /**
+     * Creates an event for a change which is not known in detail, to be treated as a replacement of all the data.
+     */
     public TaskManChangedEvent(ReadOnlyTaskMan data) {
+        this(new TaskManSnapshot(data), null, 0);
+    }
+
+    public TaskManChangedEvent(TaskManSnapshot data, TaskManChangeSet changes, long version) {
         this.data = data;
+        this.changes = changes;
+        this.version = version;
+    }
+
+    /**
+     * Returns the activities added, removed and replaced by the change, if known
+     */
+    public Optional<TaskManChangeSet> getChanges() {
+        return Optional.ofNullable(changes);
     }
 
     @Override
     public String toString() {
-        return "number of tasks " + data.getActivityList().size();
+        return "version " + version + ", " + (changes == null ? "all data replaced" : changes.toString());
     }
 }
@@ -3,14 +3,23 @@ package seedu.taskman.commons.util;
 import javafx.scene.image.Image;
 import seedu.taskman.MainApp;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 /**
  * A container for App specific utility functions
  */
 public class AppUtil {
 
+    // images cannot be changed once loaded, so one copy of each is shared by the whole app
+    private static final Map<String, Image> images = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the image at the given resource path, loading it only the first time it is requested.
+     */
     public static Image getImage(String imagePath) {
         assert imagePath != null;
-        return new Image(MainApp.class.getResourceAsStream(imagePath));
+        return images.computeIfAbsent(imagePath, path -> new Image(MainApp.class.getResourceAsStream(path)));
     }
 
 }
@@ -4,14 +4,44 @@ import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBException;
 import javax.xml.bind.Marshaller;
 import javax.xml.bind.Unmarshaller;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.BufferedInputStream;
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
 
 /**
  * Helps with reading from and writing to XML files.
+ * JAXB contexts are expensive to create, so one is kept for every set of classes converted.
  */
 public class XmlUtil {
 
+    private static final Map<List<Class<?>>, JAXBContext> contexts = new ConcurrentHashMap<>();
+    private static final XMLInputFactory inputFactory = XMLInputFactory.newFactory();
+
+    /**
+     * Returns the JAXB context for the given classes, creating it on first use.
+     */
+    private static JAXBContext getContext(Class<?>... classesToBeBound) throws JAXBException {
+        List<Class<?>> key = Arrays.asList(classesToBeBound);
+        JAXBContext context = contexts.get(key);
+        if (context == null) {
+            context = JAXBContext.newInstance(classesToBeBound);
+            contexts.putIfAbsent(key, context);
+        }
+        return context;
+    }
+
     /**
      * Returns the xml data in the file as an object of the specified type.
      *
@@ -33,12 +63,129 @@ public class XmlUtil {
             throw new FileNotFoundException("File not found : " + file.getAbsolutePath());
         }
 
-        JAXBContext context = JAXBContext.newInstance(classToConvert);
-        Unmarshaller um = context.createUnmarshaller();
+        Unmarshaller um = getContext(classToConvert).createUnmarshaller();
 
         return ((T) um.unmarshal(file));
     }
 
+    /**
+     * Reads the children of the root element in the file one at a time.
+     * Each child named in {@code readers} is passed to the reader it maps to, other children are skipped.
+     * Only one child is held in memory at any time.
+     *
+     * @param file    Points to a valid xml file. Cannot be null.
+     * @param readers The readers of the children to read, by the names of the children. Cannot be null.
+     * @throws FileNotFoundException Thrown if the file is missing.
+     * @throws JAXBException         Thrown if the file is empty or does not have the correct format.
+     */
+    public static void getElementsFromFile(File file, Map<String, ElementReader<?>> readers)
+            throws FileNotFoundException, JAXBException {
+        assert readers != null;
+        getElementsFromFile(file, rootAttributes -> readers);
+    }
+
+    /**
+     * Similar to {@link #getElementsFromFile(File, Map)}, but the readers of the children are chosen
+     * from the attributes of the root element once it is read.
+     *
+     * @throws JAXBException Also thrown if {@code readers} rejects the attributes of the root element.
+     */
+    public static void getElementsFromFile(File file, ElementReaders readers)
+            throws FileNotFoundException, JAXBException {
+
+        assert file != null;
+        assert readers != null;
+
+        if (!FileUtil.isFileExists(file)) {
+            throw new FileNotFoundException("File not found : " + file.getAbsolutePath());
+        }
+
+        try (InputStream in = new BufferedInputStream(new FileInputStream(file))) {
+            XMLStreamReader reader = inputFactory.createXMLStreamReader(in);
+            try {
+                reader.nextTag(); // root element
+                Map<String, String> rootAttributes = new HashMap<>();
+                for (int i = 0; i < reader.getAttributeCount(); i++) {
+                    rootAttributes.put(reader.getAttributeLocalName(i), reader.getAttributeValue(i));
+                }
+                Map<String, ElementReader<?>> childReaders = readers.forRoot(rootAttributes);
+                Unmarshaller um = getContext(childReaders.values().stream()
+                        .map(elementReader -> elementReader.type)
+                        .toArray(Class<?>[]::new))
+                        .createUnmarshaller();
+
+                reader.next();
+                skipToNextTag(reader);
+
+                while (reader.isStartElement()) {
+                    ElementReader<?> elementReader = childReaders.get(reader.getLocalName());
+                    if (elementReader == null) {
+                        skipElement(reader);
+                    } else {
+                        // leaves the reader just after the end of the element
+                        elementReader.read(um, reader);
+                    }
+                    skipToNextTag(reader);
+                }
+            } finally {
+                reader.close();
+            }
+        } catch (XMLStreamException e) {
+            throw new JAXBException(e);
+        } catch (FileNotFoundException e) {
+            throw e;
+        } catch (IOException e) {
+            throw new JAXBException(e);
+        }
+    }
+
+    /**
+     * Chooses the readers of the children of the root element, by the names of the children
+     */
+    @FunctionalInterface
+    public interface ElementReaders {
+        Map<String, ElementReader<?>> forRoot(Map<String, String> rootAttributes) throws JAXBException;
+    }
+
+    /**
+     * Converts children of one name to the given type and passes them to a consumer
+     */
+    public static class ElementReader<T> {
+        private final Class<T> type;
+        private final Consumer<? super T> consumer;
+
+        public ElementReader(Class<T> type, Consumer<? super T> consumer) {
+            this.type = type;
+            this.consumer = consumer;
+        }
+
+        private void read(Unmarshaller um, XMLStreamReader reader) throws JAXBException {
+            consumer.accept(um.unmarshal(reader, type).getValue());
+        }
+    }
+
+    private static void skipToNextTag(XMLStreamReader reader) throws XMLStreamException {
+        while (!reader.isStartElement() && !reader.isEndElement()) {
+            reader.next();
+        }
+    }
+
+    /**
+     * Moves the reader from the start of an element to just after its end.
+     */
+    private static void skipElement(XMLStreamReader reader) throws XMLStreamException {
+        int depth = 1;
+        while (depth > 0) {
+            reader.next();
+            if (reader.isStartElement()) {
+                depth++;
+            } else if (reader.isEndElement()) {
+                depth--;
+            }
+        }
+        reader.next();
+    }
+
     /**
      * Saves the data in the file in xml format.
      *
@@ -57,8 +204,7 @@ public class XmlUtil {
             throw new FileNotFoundException("File not found : " + file.getAbsolutePath());
         }
 
-        JAXBContext context = JAXBContext.newInstance(data.getClass());
-        Marshaller m = context.createMarshaller();
+        Marshaller m = getContext(data.getClass()).createMarshaller();
         m.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
 
         m.marshal(data, file);
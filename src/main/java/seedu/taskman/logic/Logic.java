@@ -4,6 +4,8 @@ import javafx.collections.ObservableList;
 import seedu.taskman.logic.commands.CommandResult;
 import seedu.taskman.model.event.Activity;
 
+import java.util.List;
+
 /**
  * API of the Logic component
  */
@@ -15,6 +17,15 @@ public interface Logic {
      * @return the result of the command execution.
      */
     CommandResult execute(String commandText);
+
+    /**
+     * Executes the commands as a single command which changes the data: the data is saved once,
+     * and the commands are undone together. If any command fails, none of them takes effect.
+     *
+     * @param commandTexts The commands, as they would be entered by the user.
+     * @return the result of the batch execution.
+     */
+    CommandResult executeBatch(List<String> commandTexts);
     
     /**
      * Returns the filtered list of activities with schedules
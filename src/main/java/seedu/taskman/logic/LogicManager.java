@@ -3,24 +3,36 @@ package seedu.taskman.logic;
 import javafx.collections.ObservableList;
 import seedu.taskman.commons.core.ComponentManager;
 import seedu.taskman.commons.core.LogsCenter;
+import seedu.taskman.commons.core.MetricsCenter;
+import seedu.taskman.logic.commands.BatchCommand;
 import seedu.taskman.logic.commands.Command;
 import seedu.taskman.logic.commands.CommandHistory;
 import seedu.taskman.logic.commands.CommandResult;
+import seedu.taskman.logic.commands.HistoryCommand;
 import seedu.taskman.logic.parser.CommandParser;
 import seedu.taskman.model.Model;
-import seedu.taskman.model.TaskMan;
+import seedu.taskman.model.TaskManDelta;
 import seedu.taskman.model.event.Activity;
 import seedu.taskman.storage.Storage;
 
 import java.util.ArrayDeque;
 import java.util.Deque;
+import java.util.List;
 import java.util.logging.Logger;
 
 /**
  * The main LogicManager of the app.
  */
 public class LogicManager extends ComponentManager implements Logic {
-    public static final int HISTORY_SIZE = 10;
+    public static final int HISTORY_SIZE = HistoryCommand.CAPACITY_UPP_BOUND_HISTORY_COMMAND;
+
+    public static final String METRIC_PARSE = "logic.parse";
+    public static final String METRIC_EXECUTE_PREFIX = "logic.execute.";
+    public static final String METRIC_HISTORY = "logic.history";
+    public static final String METRIC_COMMANDS = "logic.commands";
+    public static final String METRIC_FAILED_COMMANDS = "logic.commands.failed";
+    public static final String METRIC_ACTIVITY_COUNT = "model.activities";
+    public static final String METRIC_HISTORY_DEPTH = "logic.historyDepth";
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
@@ -48,21 +60,75 @@ public class LogicManager extends ComponentManager implements Logic {
 
     @Override
     public CommandResult execute(String commandText) {
-        TaskMan oldTaskMan = new TaskMan(model.getTaskMan());
+        logger.info(() -> "----------------[USER COMMAND][" + commandText + "]");
+        MetricsCenter metrics = MetricsCenter.getInstance();
 
-        logger.info("----------------[USER COMMAND][" + commandText + "]");
+        long parseStart = System.nanoTime();
         Command command = commandParser.parseCommand(commandText);
+        metrics.getHistogram(METRIC_PARSE).recordSince(parseStart);
+        return execute(command, commandText);
+    }
+
+    @Override
+    public CommandResult executeBatch(List<String> commandTexts) {
+        logger.info(() -> "----------------[BATCH COMMAND][" + commandTexts.size() + " commands]");
+        return execute(new BatchCommand(commandTexts), BatchCommand.getHistoryDescription(commandTexts));
+    }
+
+    private CommandResult execute(Command command, String commandText) {
+        MetricsCenter metrics = MetricsCenter.getInstance();
         command.setData(model, storage, historyDeque);
-        CommandResult result = command.execute();
 
-        if (result.succeeded && command.storeHistory) {
-            CommandHistory history = new CommandHistory(commandText, result.feedbackToUser, oldTaskMan);
+        CommandResult result = command.storeHistory
+                ? executeWithHistory(command, commandText)
+                : executeTimed(command);
+
+        metrics.increment(METRIC_COMMANDS);
+        if (!result.succeeded) {
+            metrics.increment(METRIC_FAILED_COMMANDS);
+        }
+        metrics.setGauge(METRIC_ACTIVITY_COUNT, model.getTaskMan().getActivityList().size());
+        metrics.setGauge(METRIC_HISTORY_DEPTH, historyDeque.size());
+        return result;
+    }
+
+    /**
+     * Executes the command, recording the changes it makes to the data so that it can be undone
+     */
+    private CommandResult executeWithHistory(Command command, String commandText) {
+        CommandResult result;
+        TaskManDelta changes;
+        model.startRecordingChanges();
+        try {
+            result = executeTimed(command);
+        } finally {
+            changes = model.stopRecordingChanges();
+        }
+
+        long historyStart = System.nanoTime();
+        if (result.succeeded) {
+            CommandHistory history = new CommandHistory(commandText, result.feedbackToUser, changes);
             historyDeque.push(history);
+            while (historyDeque.size() > HISTORY_SIZE) {
+                historyDeque.removeLast();
+            }
         }
+        MetricsCenter.getInstance().getHistogram(METRIC_HISTORY).recordSince(historyStart);
 
         return result;
     }
 
+    private CommandResult executeTimed(Command command) {
+        long executeStart = System.nanoTime();
+        try {
+            return command.execute();
+        } finally {
+            MetricsCenter.getInstance()
+                    .getHistogram(METRIC_EXECUTE_PREFIX + command.getClass().getSimpleName())
+                    .recordSince(executeStart);
+        }
+    }
+
     @Override
     public ObservableList<Activity> getSortedScheduleList() {
         return model.getSortedScheduleList();
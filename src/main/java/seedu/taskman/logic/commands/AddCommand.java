@@ -1,15 +1,15 @@
 package seedu.taskman.logic.commands;
 
 import seedu.taskman.commons.exceptions.IllegalValueException;
-import seedu.taskman.logic.parser.CommandParser;
+import seedu.taskman.logic.parser.ArgumentTokenizer;
+import seedu.taskman.logic.parser.ArgumentTokenizer.Prefix;
 import seedu.taskman.model.tag.Tag;
 import seedu.taskman.model.tag.UniqueTagList;
 import seedu.taskman.model.event.*;
 
 import java.util.HashSet;
+import java.util.Optional;
 import java.util.Set;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import static seedu.taskman.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 
@@ -31,12 +31,6 @@ public class AddCommand extends Command {
     public static final String MESSAGE_ADD_INVALID_COMMAND_FORMAT = MESSAGE_INVALID_COMMAND_FORMAT
             + "\n" + COMMAND_WORD + ": " + MESSAGE_USAGE;
 
-    private static final Pattern TASK_ADD_ARGS_FORMAT =
-            Pattern.compile("" + CommandParser.ArgumentPattern.TITLE
-                    + CommandParser.ArgumentPattern.OPTIONAL_DEADLINE
-                    + CommandParser.ArgumentPattern.OPTIONAL_SCHEDULE
-                    + CommandParser.ArgumentPattern.OPTIONAL_TAGS);
-
     private final Task toAdd;
 
     /**
@@ -64,16 +58,17 @@ public class AddCommand extends Command {
     }
 
     public static Command prepareAdd(String args) {
-        final Matcher matcher = TASK_ADD_ARGS_FORMAT.matcher(args.trim());
-        if (!matcher.matches()) {
+        final Optional<ArgumentTokenizer> arguments =
+                ArgumentTokenizer.tokenize(args, Prefix.DEADLINE, Prefix.SCHEDULE, Prefix.TAG);
+        if (!arguments.isPresent() || arguments.get().getPreamble().isEmpty()) {
             return new IncorrectCommand(MESSAGE_ADD_INVALID_COMMAND_FORMAT);
         }
         try {
             return new AddCommand(
-                    matcher.group(CommandParser.Group.title.name),
-                    matcher.group(CommandParser.Group.deadline.name),
-                    matcher.group(CommandParser.Group.schedule.name),
-                    getTagsFromArgs(matcher.group(CommandParser.Group.tagArguments.name))
+                    arguments.get().getPreamble(),
+                    arguments.get().getValue(Prefix.DEADLINE).orElse(null),
+                    arguments.get().getValue(Prefix.SCHEDULE).orElse(null),
+                    getTagsFromArgs(arguments.get())
             );
         } catch (IllegalValueException ive) {
             return new IncorrectCommand(ive.getMessage());
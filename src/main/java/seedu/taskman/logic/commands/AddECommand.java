@@ -1,15 +1,15 @@
 package seedu.taskman.logic.commands;
 
 import seedu.taskman.commons.exceptions.IllegalValueException;
-import seedu.taskman.logic.parser.CommandParser;
+import seedu.taskman.logic.parser.ArgumentTokenizer;
+import seedu.taskman.logic.parser.ArgumentTokenizer.Prefix;
 import seedu.taskman.model.tag.Tag;
 import seedu.taskman.model.tag.UniqueTagList;
 import seedu.taskman.model.event.*;
 
 import java.util.HashSet;
+import java.util.Optional;
 import java.util.Set;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import static seedu.taskman.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 
@@ -31,11 +31,6 @@ public class AddECommand extends Command {
     public static final String MESSAGE_ADDE_INVALID_COMMAND_FORMAT = MESSAGE_INVALID_COMMAND_FORMAT
             + "\n" + COMMAND_WORD + ": " + MESSAGE_USAGE;
 
-    private static final Pattern EVENT_MARK_ARGS_FORMAT =
-            Pattern.compile("" + CommandParser.ArgumentPattern.TITLE
-                    + CommandParser.ArgumentPattern.SCHEDULE
-                    + CommandParser.ArgumentPattern.OPTIONAL_TAGS);
-
     private final Event toAdd;
 
     /**
@@ -58,16 +53,18 @@ public class AddECommand extends Command {
     }
 
     public static Command prepareAddE(String args) {
-        final Matcher matcher = EVENT_MARK_ARGS_FORMAT.matcher(args.trim());
+        final Optional<ArgumentTokenizer> arguments = ArgumentTokenizer.tokenize(args, Prefix.SCHEDULE, Prefix.TAG);
         // Validate arg string format
-        if (!matcher.matches()) {
+        if (!arguments.isPresent()
+                || arguments.get().getPreamble().isEmpty()
+                || !arguments.get().getValue(Prefix.SCHEDULE).isPresent()) {
             return new IncorrectCommand(MESSAGE_ADDE_INVALID_COMMAND_FORMAT);
         }
         try {
             return new AddECommand(
-                    matcher.group(CommandParser.Group.title.name),
-                    matcher.group(CommandParser.Group.schedule.name),
-                    getTagsFromArgs(matcher.group(CommandParser.Group.tagArguments.name))
+                    arguments.get().getPreamble(),
+                    arguments.get().getValue(Prefix.SCHEDULE).get(),
+                    getTagsFromArgs(arguments.get())
             );
         } catch (IllegalValueException ive) {
             return new IncorrectCommand(ive.getMessage());
@@ -0,0 +1,108 @@
+package seedu.taskman.logic.commands;
+
+import seedu.taskman.logic.parser.CommandParser;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Runs several commands which change the data as a single command.
+ * <p>
+ * The commands are applied in one model transaction, so the data is saved once and the whole batch
+ * is undone at once. If any of the commands fails, the changes made by the others are reverted.
+ */
+public class BatchCommand extends Command {
+
+    public static final String COMMENT_PREFIX = "#";
+
+    public static final String MESSAGE_SUCCESS = "%1$d command(s) executed.";
+    public static final String MESSAGE_COMMAND_FAILED = "Line %1$d failed, no changes were made: %2$s\n%3$s";
+    public static final String MESSAGE_COMMAND_NOT_ALLOWED =
+            "Only commands which change the data can be run together.";
+    public static final String HISTORY_DESCRIPTION = "batch of %1$d command(s)";
+
+    private final List<String> commandTexts;
+
+    public BatchCommand(List<String> commandTexts) {
+        super(true);
+        this.commandTexts = commandTexts;
+    }
+
+    /**
+     * Returns the command history entry describing a batch of the given commands
+     */
+    public static String getHistoryDescription(List<String> commandTexts) {
+        return String.format(HISTORY_DESCRIPTION, commandTexts.size());
+    }
+
+    /**
+     * Returns the commands to run, one per line. Blank lines and lines starting with
+     * {@link #COMMENT_PREFIX} are skipped.
+     */
+    protected List<String> getCommandTexts() throws IOException {
+        return commandTexts;
+    }
+
+    @Override
+    public CommandResult execute() {
+        assert model != null;
+
+        List<String> lines;
+        try {
+            lines = getCommandTexts();
+        } catch (IOException e) {
+            indicateAttemptToExecuteIncorrectCommand();
+            return new CommandResult(getReadFailureMessage(e), false);
+        }
+
+        CommandParser parser = new CommandParser();
+        int executedCount = 0;
+        boolean committed = false;
+        model.startTransaction();
+        try {
+            for (int i = 0; i < lines.size(); i++) {
+                String line = lines.get(i).trim();
+                if (line.isEmpty() || line.startsWith(COMMENT_PREFIX)) {
+                    continue;
+                }
+
+                CommandResult result = executeLine(parser, line);
+                if (!result.succeeded) {
+                    return new CommandResult(
+                            String.format(MESSAGE_COMMAND_FAILED, i + 1, line, result.feedbackToUser), false);
+                }
+                executedCount++;
+            }
+            model.commitTransaction();
+            committed = true;
+        } finally {
+            if (!committed) {
+                model.rollbackTransaction();
+            }
+        }
+        return new CommandResult(String.format(MESSAGE_SUCCESS, executedCount), true);
+    }
+
+    /**
+     * Commands which do not store history, such as {@code undo}, work outside the data or cannot be undone,
+     * and batches cannot be nested.
+     */
+    private CommandResult executeLine(CommandParser parser, String line) {
+        Command command = parser.parseCommand(line);
+        boolean isAllowed = command instanceof IncorrectCommand
+                || (command.storeHistory && !(command instanceof BatchCommand));
+        if (!isAllowed) {
+            indicateAttemptToExecuteIncorrectCommand();
+            return new CommandResult(MESSAGE_COMMAND_NOT_ALLOWED, false);
+        }
+        command.setData(model, storage, historyDeque);
+        return command.execute();
+    }
+
+    /**
+     * Returns the feedback to the user when the commands could not be read
+     */
+    protected String getReadFailureMessage(IOException e) {
+        return e.getMessage();
+    }
+}
@@ -4,30 +4,20 @@ import javafx.util.Pair;
 import seedu.taskman.commons.core.EventsCenter;
 import seedu.taskman.commons.core.Messages;
 import seedu.taskman.commons.events.ui.IncorrectCommandAttemptedEvent;
-import seedu.taskman.commons.util.StringUtil;
-import seedu.taskman.logic.parser.CommandParser;
+import seedu.taskman.logic.parser.ArgumentTokenizer;
 import seedu.taskman.model.Model;
 import seedu.taskman.model.event.Activity;
 import seedu.taskman.storage.Storage;
 
-import java.util.Arrays;
-import java.util.Collection;
-import java.util.Collections;
 import java.util.Deque;
 import java.util.HashSet;
 import java.util.Optional;
 import java.util.Set;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 /**
  * Represents a command with hidden internal logic and the ability to be executed.
  */
 public abstract class Command {
-    private static final Pattern PANEL_TYPE_WITH_INDEX_ARGS_FORMAT =
-            Pattern.compile("" + CommandParser.ArgumentPattern.PANEL + CommandParser.ArgumentPattern.TARGET_INDEX);
-    private static final Pattern TASK_INDEX_ARGS_FORMAT =
-            Pattern.compile(CommandParser.ArgumentPattern.TARGET_INDEX.pattern);
     public final boolean storeHistory;
     protected Model model;
     protected Storage storage;
@@ -48,17 +38,11 @@ public abstract class Command {
     }
 
     /**
-     * Extracts the new task's tags from the add command's tag arguments string.
-     * Merges duplicate tag strings.
+     * Extracts the tag names from the tokenized arguments of a command.
+     * Merges duplicate tag names.
      */
-    public static Set<String> getTagsFromArgs(String tagArguments) {
-        // no tags
-        if (tagArguments.isEmpty()) {
-            return Collections.emptySet();
-        }
-        // replace first delimiter prefix, then split
-        final Collection<String> tagStrings = Arrays.asList(tagArguments.replaceFirst("t/", "").split(" t/"));
-        return new HashSet<>(tagStrings);
+    public static Set<String> getTagsFromArgs(ArgumentTokenizer arguments) {
+        return new HashSet<>(arguments.getAllValues(ArgumentTokenizer.Prefix.TAG));
     }
 
     /**
@@ -66,15 +50,8 @@ public abstract class Command {
      *   Returns an {@code Optional.empty()} otherwise.
      */
     protected static Optional<Integer> parseIndex(String command) {
-        final Matcher matcher = TASK_INDEX_ARGS_FORMAT.matcher(command.trim());
-        if (!matcher.matches()) {
-            return Optional.empty();
-        }
-        String index = matcher.group(CommandParser.Group.targetIndex.name);
-        if(!StringUtil.isUnsignedInteger(index)){
-            return Optional.empty();
-        }
-        return Optional.of(Integer.valueOf(index));
+        String trimmedCommand = command.trim();
+        return parseIndex(trimmedCommand, 0, trimmedCommand.length());
     }
 
     /**
@@ -82,17 +59,37 @@ public abstract class Command {
      * index and a panel type is specified
      */
     protected static Optional<Pair<Activity.PanelType, Integer>> parsePanelTypeWithIndexOnly(String command) {
-        final Matcher matcher = PANEL_TYPE_WITH_INDEX_ARGS_FORMAT.matcher(command.trim());
-        if (!matcher.matches()) {
-            return Optional.empty();
+        String trimmedCommand = command.trim();
+        for (Activity.PanelType panelType : Activity.PanelType.values()) {
+            String panel = panelType.getString();
+            if (panelType != Activity.PanelType.ALL && trimmedCommand.startsWith(panel)) {
+                return parseIndex(trimmedCommand, panel.length(), trimmedCommand.length())
+                        .map(index -> new Pair<>(panelType, index));
+            }
         }
-        String rawPanelType = matcher.group(CommandParser.Group.panel.name);
-        Activity.PanelType panelType = Activity.PanelType.fromString(rawPanelType);
-        String index = matcher.group(CommandParser.Group.targetIndex.name);
-        if(!StringUtil.isUnsignedInteger(index)){
+        return Optional.empty();
+    }
+
+    /**
+     * Returns the positive int written in digits from {@code start} (inclusive) to {@code end} (exclusive)
+     * of the text, if there is one.
+     */
+    private static Optional<Integer> parseIndex(String text, int start, int end) {
+        if (start >= end) {
             return Optional.empty();
         }
-        return Optional.of(new Pair<>(panelType, Integer.parseInt(index)));
+        long index = 0;
+        for (int i = start; i < end; i++) {
+            char digit = text.charAt(i);
+            if (digit < '0' || digit > '9') {
+                return Optional.empty();
+            }
+            index = index * 10 + (digit - '0');
+            if (index > Integer.MAX_VALUE) {
+                return Optional.empty();
+            }
+        }
+        return index == 0 ? Optional.empty() : Optional.of((int) index);
     }
 
     /**
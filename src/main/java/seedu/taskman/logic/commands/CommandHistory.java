@@ -1,22 +1,22 @@
 package seedu.taskman.logic.commands;
 
-import seedu.taskman.model.TaskMan;
+import seedu.taskman.model.TaskManDelta;
 
 public class CommandHistory {
     public final String inputCommand;
     public final String resultMessage;
-    private final TaskMan oldTaskMan;
+    private final TaskManDelta changes;
 
-    public CommandHistory(String inputCommand, String resultMessage, TaskMan oldTaskMan) {
+    public CommandHistory(String inputCommand, String resultMessage, TaskManDelta changes) {
         this.inputCommand = inputCommand;
         this.resultMessage = resultMessage;
-        this.oldTaskMan = oldTaskMan;
+        this.changes = changes;
     }
 
     /**
-     * Returns TaskMan before the command was executed
+     * Returns the changes the command made to TaskMan
      */
-    public TaskMan getOldTaskMan() {
-        return new TaskMan(oldTaskMan);
+    public TaskManDelta getChanges() {
+        return changes;
     }
 }
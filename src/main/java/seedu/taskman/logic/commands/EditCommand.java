@@ -1,9 +1,11 @@
 package seedu.taskman.logic.commands;
 
+import javafx.util.Pair;
 import seedu.taskman.commons.core.Messages;
 import seedu.taskman.commons.core.UnmodifiableObservableList;
 import seedu.taskman.commons.exceptions.IllegalValueException;
-import seedu.taskman.logic.parser.CommandParser;
+import seedu.taskman.logic.parser.ArgumentTokenizer;
+import seedu.taskman.logic.parser.ArgumentTokenizer.Prefix;
 import seedu.taskman.model.event.Activity;
 import seedu.taskman.model.event.Deadline;
 import seedu.taskman.model.event.Event;
@@ -17,9 +19,8 @@ import seedu.taskman.model.tag.UniqueTagList;
 
 import javax.annotation.Nullable;
 import java.util.HashSet;
+import java.util.Optional;
 import java.util.Set;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import static seedu.taskman.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 
@@ -43,15 +44,6 @@ public class EditCommand extends Command {
     public static final String MESSAGE_EDIT_INVALID_COMMAND_FORMAT = MESSAGE_INVALID_COMMAND_FORMAT
             + "\n" + COMMAND_WORD + ": " + MESSAGE_USAGE;
 
-    private static final Pattern TASK_EDIT_ARGS_FORMAT = // '/' forward slashes are reserved for delimiter prefixes
-            Pattern.compile("" + CommandParser.ArgumentPattern.PANEL
-                    + CommandParser.ArgumentPattern.TARGET_INDEX
-                    + CommandParser.ArgumentPattern.TITLE + "?"
-                    + CommandParser.ArgumentPattern.OPTIONAL_DEADLINE
-                    + CommandParser.ArgumentPattern.OPTIONAL_STATUS
-                    + CommandParser.ArgumentPattern.OPTIONAL_SCHEDULE
-                    + CommandParser.ArgumentPattern.OPTIONAL_TAGS); // variable number of tags
-
     private final ArgumentContainer argsContainer;
     private Activity beforeEdit;
     private Activity afterEdit;
@@ -71,32 +63,34 @@ public class EditCommand extends Command {
     }
 
     public static Command prepareEdit(String args) {
-        final Matcher matcher = TASK_EDIT_ARGS_FORMAT.matcher(args.trim());
-
-        if (!matcher.matches()) {
+        final Optional<ArgumentTokenizer> arguments = ArgumentTokenizer.tokenize(args,
+                Prefix.DEADLINE, Prefix.STATUS, Prefix.SCHEDULE, Prefix.TAG); // variable number of tags
+        if (!arguments.isPresent()) {
             return new IncorrectCommand(MESSAGE_EDIT_INVALID_COMMAND_FORMAT);
         }
 
-        String panelTypeRaw = matcher.group(CommandParser.Group.panel.name).trim();
-        Activity.PanelType panelType = Activity.PanelType.fromString(panelTypeRaw);
-
-        String indexString = matcher.group(CommandParser.Group.targetIndex.name).trim();
-        int index = Integer.parseInt(indexString);
-
-        String title = matcher.group(CommandParser.Group.title.name);
-        if (title != null && title.trim().isEmpty()) {
-            title = null;
+        // the preamble is the panel with the index, optionally followed by the new title
+        String preamble = arguments.get().getPreamble();
+        int titleStart = 0;
+        while (titleStart < preamble.length() && !Character.isWhitespace(preamble.charAt(titleStart))) {
+            titleStart++;
+        }
+        Optional<Pair<Activity.PanelType, Integer>> panelWithIndex =
+                parsePanelTypeWithIndexOnly(preamble.substring(0, titleStart));
+        if (!panelWithIndex.isPresent()) {
+            return new IncorrectCommand(MESSAGE_EDIT_INVALID_COMMAND_FORMAT);
         }
 
-        String tags = matcher.group(CommandParser.Group.tagArguments.name);
+        String title = preamble.substring(titleStart).trim();
+        Set<String> tags = getTagsFromArgs(arguments.get());
         return new EditCommand(
-                panelType,
-                index,
-                title,
-                matcher.group(CommandParser.Group.deadline.name),
-                matcher.group(CommandParser.Group.status.name),
-                matcher.group(CommandParser.Group.schedule.name),
-                tags.isEmpty() ? null : getTagsFromArgs(tags));
+                panelWithIndex.get().getKey(),
+                panelWithIndex.get().getValue(),
+                title.isEmpty() ? null : title,
+                arguments.get().getValue(Prefix.DEADLINE).orElse(null),
+                arguments.get().getValue(Prefix.STATUS).orElse(null),
+                arguments.get().getValue(Prefix.SCHEDULE).orElse(null),
+                tags.isEmpty() ? null : tags);
     }
 
     @Override
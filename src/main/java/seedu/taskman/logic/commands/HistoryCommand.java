@@ -1,17 +1,18 @@
 package seedu.taskman.logic.commands;
 
-import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Collectors;
 
 public class HistoryCommand extends Command {
 
     public static final int CAPACITY_LOW_BOUND_HISTORY_COMMAND = 0; // cannot be negative
-    public static final int CAPACITY_UPP_BOUND_HISTORY_COMMAND = 10;
+    public static final int CAPACITY_UPP_BOUND_HISTORY_COMMAND = 100;
+    public static final int DISPLAY_LIMIT_HISTORY_COMMAND = 10;
 
     public static final String COMMAND_WORD = "history";
 
     public static final String MESSAGE_USAGE = "Show the "
-            + CAPACITY_UPP_BOUND_HISTORY_COMMAND
+            + DISPLAY_LIMIT_HISTORY_COMMAND
             + " most recently executed commands that modified data.\n"
             + "Example: " + COMMAND_WORD;
 
@@ -31,7 +32,9 @@ public class HistoryCommand extends Command {
         StringBuilder builder = new StringBuilder(HISTORY_STRING_HEADER);
         int commandCount = 1;
 
-        List<CommandHistory> historyForExtraction = new ArrayList<>(historyDeque);
+        List<CommandHistory> historyForExtraction = historyDeque.stream()
+                .limit(DISPLAY_LIMIT_HISTORY_COMMAND)
+                .collect(Collectors.toList());
 
         for (CommandHistory history : historyForExtraction) {
             builder.append(String.format(HISTORY_STRING_BULLET_POINT, commandCount++))
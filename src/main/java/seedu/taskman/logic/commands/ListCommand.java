@@ -1,13 +1,14 @@
 package seedu.taskman.logic.commands;
 
-import seedu.taskman.logic.parser.CommandParser;
+import seedu.taskman.logic.parser.ArgumentTokenizer;
+import seedu.taskman.logic.parser.ArgumentTokenizer.Prefix;
 import seedu.taskman.model.event.Activity;
 
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.Optional;
 import java.util.Set;
-import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import static seedu.taskman.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
@@ -30,77 +31,32 @@ public class ListCommand extends Command {
     public static final String MESSAGE_FEEDBACK_WORD_NOT_SPECIFIED = "(Not specified)";
     public static final String MESSAGE_FEEDBACK_WORD_SEPARATOR = " ";
 
-    private static final Pattern SPECIFY_PANEL_ARGS_FORMAT =
-            Pattern.compile("" + CommandParser.ArgumentPattern.PANEL
-                    + CommandParser.ArgumentPattern.OPTIONAL_KEYWORDS
-                    + CommandParser.ArgumentPattern.OPTIONAL_TAGS);
-
-    private static final Pattern SPECIFY_NO_PANEL_ARGS_FORMAT =
-            Pattern.compile("" + CommandParser.ArgumentPattern.OPTIONAL_KEYWORDS
-                    + CommandParser.ArgumentPattern.OPTIONAL_TAGS);
+    private static final Pattern KEYWORD_SEPARATOR = Pattern.compile("\\s+");
 
     private final Activity.PanelType panelType;
     private final Set<String> keywords;
     private final Set<String> tagNames;
 
     public static Command prepareList(String args) {
-        final String trimmedArgs = args.trim();
-        final Matcher matcherWithPanel = SPECIFY_PANEL_ARGS_FORMAT.matcher(trimmedArgs);
-        final Matcher matcherWithoutPanel = SPECIFY_NO_PANEL_ARGS_FORMAT.matcher(trimmedArgs);
-
-        if (trimmedArgs.isEmpty()) {
-            return new ListCommand(
-                    Activity.PanelType.ALL,
-                    processRawKeywords(null),
-                    processRawTags(null)
-            );
-        } else if (matcherWithPanel.matches()) {
-            return panelSpecificListCommand(
-                    matcherWithPanel.group(CommandParser.Group.panel.name),
-                    matcherWithPanel.group(CommandParser.Group.keywords.name),
-                    matcherWithPanel.group(CommandParser.Group.tagArguments.name)
-            );
-        } else if(matcherWithoutPanel.matches()) {
-            return allPanelsListCommand(
-                    matcherWithoutPanel.group(CommandParser.Group.keywords.name),
-                    matcherWithoutPanel.group(CommandParser.Group.tagArguments.name)
-            );
-        } else {
+        final Optional<ArgumentTokenizer> arguments = ArgumentTokenizer.tokenize(args, Prefix.TAG);
+        if (!arguments.isPresent()) {
             return new IncorrectCommand(MESSAGE_INVALID_COMMAND_FORMAT
                     + "\n" + COMMAND_WORD + ": " + MESSAGE_USAGE);
         }
-    }
-
-    private static ListCommand allPanelsListCommand(String rawKeywords, String rawTagArguments) {
-        return new ListCommand(Activity.PanelType.ALL, processRawKeywords(rawKeywords), processRawTags(rawTagArguments));
-    }
-
-    private static ListCommand panelSpecificListCommand(String rawPanel, String rawKeywords, String rawTagArguments) {
-        Activity.PanelType panelType = null;
-
-        if (rawPanel != null) {
-            rawPanel = rawPanel.trim();
-            panelType = Activity.PanelType.fromString(rawPanel);
-        }
 
-        return new ListCommand(panelType, processRawKeywords(rawKeywords), processRawTags(rawTagArguments));
-    }
-
-    private static Set<String> processRawKeywords(String rawKeywords) {
-        Set<String> keywordSet = Collections.EMPTY_SET;
-        if (rawKeywords != null) {
-            String[] keywords = rawKeywords.split("\\s+");
-            keywordSet = new HashSet<>(Arrays.asList(keywords));
+        Set<String> tagNames = getTagsFromArgs(arguments.get());
+        String preamble = arguments.get().getPreamble();
+        if (preamble.isEmpty()) {
+            return new ListCommand(Activity.PanelType.ALL, Collections.emptySet(), tagNames);
         }
-        return keywordSet;
-    }
 
-    private static Set<String> processRawTags(String rawTags) {
-        Set<String> tagSet = Collections.EMPTY_SET;
-        if (rawTags != null) {
-            tagSet = getTagsFromArgs(rawTags);
+        // the first word may specify the panel, the rest are keywords
+        String[] words = KEYWORD_SEPARATOR.split(preamble);
+        Activity.PanelType panelType = Activity.PanelType.fromString(words[0]);
+        if (panelType == null || panelType == Activity.PanelType.ALL) {
+            return new ListCommand(Activity.PanelType.ALL, new HashSet<>(Arrays.asList(words)), tagNames);
         }
-        return tagSet;
+        return new ListCommand(panelType, new HashSet<>(Arrays.asList(words).subList(1, words.length)), tagNames);
     }
 
     private ListCommand(Activity.PanelType panelType, Set<String> keywords, Set<String> tags) {
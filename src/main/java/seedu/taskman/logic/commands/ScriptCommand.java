@@ -0,0 +1,60 @@
+package seedu.taskman.logic.commands;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.List;
+
+import static seedu.taskman.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+/**
+ * Runs the commands in a text file, one per line, as a single command.
+ *
+ * @see BatchCommand
+ */
+public class ScriptCommand extends BatchCommand {
+
+    public static final String COMMAND_WORD = "script";
+
+    public static final String MESSAGE_USAGE = "Run the commands in a file, one per line, as a single command.\n"
+            + "Lines starting with " + COMMENT_PREFIX + " are ignored. "
+            + "If any command fails, none of the commands take effect.\n"
+            + "Parameters: LOCATION\n"
+            + "Example: " + COMMAND_WORD
+            + " C:/Users/Owner/Desktop/new_tasks.txt";
+
+    public static final String MESSAGE_READ_FAILURE = "Unable to read the script file %1$s";
+
+    private final String filePath;
+
+    public static Command prepareScript(String args) {
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            return new IncorrectCommand(MESSAGE_INVALID_COMMAND_FORMAT
+                    + "\n" + COMMAND_WORD + ": " + MESSAGE_USAGE);
+        }
+        return new ScriptCommand(trimmedArgs);
+    }
+
+    private ScriptCommand(String filePath) {
+        super(Collections.emptyList());
+        this.filePath = filePath;
+    }
+
+    @Override
+    protected List<String> getCommandTexts() throws IOException {
+        try {
+            return Files.readAllLines(Paths.get(filePath), StandardCharsets.UTF_8);
+        } catch (InvalidPathException e) {
+            throw new IOException(e);
+        }
+    }
+
+    @Override
+    protected String getReadFailureMessage(IOException e) {
+        return String.format(MESSAGE_READ_FAILURE, filePath);
+    }
+}
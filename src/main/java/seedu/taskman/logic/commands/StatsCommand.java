@@ -0,0 +1,34 @@
+package seedu.taskman.logic.commands;
+
+import seedu.taskman.commons.core.MetricsCenter;
+import seedu.taskman.logic.LogicManager;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Displays the performance metrics collected since TaskMan started.
+ */
+public class StatsCommand extends Command {
+
+    public static final String COMMAND_WORD = "stats";
+
+    public static final String MESSAGE_USAGE = "Show the performance statistics of TaskMan.\n"
+            + "Example: " + COMMAND_WORD;
+
+    public static final String STATS_STRING_HEADER = "Commands executed: %1$d (%2$.1f per minute)\n";
+
+    public StatsCommand() {
+        super(false);
+    }
+
+    @Override
+    public CommandResult execute() {
+        MetricsCenter metrics = MetricsCenter.getInstance();
+        long commandCount = metrics.getCount(LogicManager.METRIC_COMMANDS);
+        double uptimeMinutes = Math.max(1, metrics.getUptimeMillis()) / (double) TimeUnit.MINUTES.toMillis(1);
+
+        return new CommandResult(String.format(STATS_STRING_HEADER, commandCount, commandCount / uptimeMinutes)
+                + metrics.getSummary(), true);
+    }
+
+}
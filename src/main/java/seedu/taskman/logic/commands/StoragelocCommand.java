@@ -3,10 +3,8 @@ package seedu.taskman.logic.commands;
 import seedu.taskman.commons.core.config.Config;
 import seedu.taskman.commons.core.config.ConfigData;
 import seedu.taskman.commons.util.FileUtil;
-import seedu.taskman.logic.parser.CommandParser;
 
 import java.io.IOException;
-import java.util.regex.Pattern;
 
 import static seedu.taskman.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 
@@ -29,7 +27,6 @@ public class StoragelocCommand extends Command {
             "Save location reverted to %1$s";
     private static final String STORAGELOC_DEFAULT_KEYWORD = "default";
     private static final String STORAGELOC_VIEW_KEYWORD = "view";
-    private static final Pattern STORAGELOC_ARGS_FORMAT = Pattern.compile("" + CommandParser.ArgumentPattern.FILE_PATH);
 
     private String filePath;
 
@@ -46,7 +43,7 @@ public class StoragelocCommand extends Command {
 
         String trimmedArgs = args.trim();
 
-        if (!STORAGELOC_ARGS_FORMAT.matcher(trimmedArgs).matches()) {
+        if (trimmedArgs.isEmpty()) {
             return new IncorrectCommand(MESSAGE_INVALID_COMMAND_FORMAT
                     + "\n" + COMMAND_WORD + ": " + MESSAGE_USAGE);
         }
@@ -1,5 +1,9 @@
 package seedu.taskman.logic.commands;
 
+import seedu.taskman.model.TaskManDelta;
+
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 
 import static seedu.taskman.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
@@ -9,12 +13,13 @@ public class UndoCommand extends Command {
     public static final String COMMAND_WORD = "undo";
 
     public static final String MESSAGE_USAGE = "Undo the specified number of executed commands which modified data in TaskMan.\n"
-            + "Parameters: [NUMBER (1 to 10 inclusive)]\n"
+            + "Parameters: [NUMBER (1 to " + HistoryCommand.CAPACITY_UPP_BOUND_HISTORY_COMMAND + " inclusive)]\n"
             + "Example: " + COMMAND_WORD
             + " 2";
 
     public static final String MESSAGE_SUCCESS = "Your %d command(s) are undone.";
-    public static final String MESSAGE_NUMBER_OUT_OF_RANGE = "The number provided is out of range (only 1 to 10 inclusive).";
+    public static final String MESSAGE_NUMBER_OUT_OF_RANGE = "The number provided is out of range (only 1 to "
+            + HistoryCommand.CAPACITY_UPP_BOUND_HISTORY_COMMAND + " inclusive).";
 
     private int commandsToUndo;
 
@@ -46,12 +51,12 @@ public class UndoCommand extends Command {
             return new CommandResult(MESSAGE_NUMBER_OUT_OF_RANGE, false);
         }
 
-        for (int i = 0; i < commandsToUndo - 1; i++) {
-            historyDeque.pop();
+        List<TaskManDelta> changesToRevert = new ArrayList<>(commandsToUndo);
+        for (int i = 0; i < commandsToUndo; i++) {
+            changesToRevert.add(historyDeque.pop().getChanges());
         }
 
-        CommandHistory history = historyDeque.pop();
-        model.resetData(history.getOldTaskMan());
+        model.revertChanges(changesToRevert);
         return new CommandResult(String.format(MESSAGE_SUCCESS, commandsToUndo), true);
     }
 
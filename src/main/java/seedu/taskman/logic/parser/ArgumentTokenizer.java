@@ -0,0 +1,148 @@
+package seedu.taskman.logic.parser;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Splits command arguments into a preamble and values introduced by prefixes, e.g.
+ * {@code pay bills d/next fri 1900 t/bills} into the preamble {@code pay bills},
+ * the deadline {@code next fri 1900} and the tag {@code bills}.
+ * <p>
+ * A prefix is only recognised at the start of the arguments or after whitespace.
+ * Forward slashes are reserved for prefixes, so the arguments are invalid if they contain any other slash.
+ * The arguments are read in a single pass, taking time linear in their length.
+ */
+public class ArgumentTokenizer {
+
+    public enum Prefix {
+        DEADLINE('d'),
+        SCHEDULE('s'),
+        STATUS('c'),
+        TAG('t');
+
+        private static final char SEPARATOR = '/';
+
+        public final char letter;
+
+        Prefix(char letter) {
+            this.letter = letter;
+        }
+
+        private static Optional<Prefix> fromLetter(char letter) {
+            for (Prefix prefix : values()) {
+                if (prefix.letter == letter) {
+                    return Optional.of(prefix);
+                }
+            }
+            return Optional.empty();
+        }
+
+        /**
+         * Returns true if prefixes of this kind may be given more than once
+         */
+        private boolean isRepeatable() {
+            return this == TAG;
+        }
+
+        @Override
+        public String toString() {
+            return "" + letter + SEPARATOR;
+        }
+    }
+
+    private final String preamble;
+    private final Map<Prefix, List<String>> values = new EnumMap<>(Prefix.class);
+
+    private ArgumentTokenizer(String preamble) {
+        this.preamble = preamble;
+    }
+
+    /**
+     * Tokenizes the arguments, which may only use the given prefixes, in the given order.
+     * Only tags may be given more than once, and every prefix must be followed by a value.
+     *
+     * @return the tokenized arguments, or {@code Optional.empty()} if the arguments do not follow the format
+     */
+    public static Optional<ArgumentTokenizer> tokenize(String arguments, Prefix... allowedInOrder) {
+        ArgumentTokenizer tokenized = null;
+        Prefix current = null;
+        int currentOrder = -1;
+        int valueStart = 0;
+
+        for (int i = 0; i < arguments.length(); i++) {
+            if (arguments.charAt(i) != Prefix.SEPARATOR) {
+                continue;
+            }
+            boolean isPrefixStart = i == 1 || (i > 1 && Character.isWhitespace(arguments.charAt(i - 2)));
+            Optional<Prefix> prefix = isPrefixStart ? Prefix.fromLetter(arguments.charAt(i - 1)) : Optional.empty();
+            if (!prefix.isPresent()) {
+                return Optional.empty();
+            }
+            int order = indexOf(allowedInOrder, prefix.get());
+            boolean isOutOfOrder = order < currentOrder || (order == currentOrder && !prefix.get().isRepeatable());
+            if (order < 0 || isOutOfOrder) {
+                return Optional.empty();
+            }
+
+            String value = arguments.substring(valueStart, i - 1).trim();
+            if (tokenized == null) {
+                tokenized = new ArgumentTokenizer(value);
+            } else if (!tokenized.addValue(current, value)) {
+                return Optional.empty();
+            }
+            current = prefix.get();
+            currentOrder = order;
+            valueStart = i + 1;
+        }
+
+        String value = arguments.substring(valueStart).trim();
+        if (tokenized == null) {
+            return Optional.of(new ArgumentTokenizer(value));
+        }
+        return tokenized.addValue(current, value) ? Optional.of(tokenized) : Optional.empty();
+    }
+
+    private static int indexOf(Prefix[] prefixes, Prefix target) {
+        for (int i = 0; i < prefixes.length; i++) {
+            if (prefixes[i] == target) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private boolean addValue(Prefix prefix, String value) {
+        if (value.isEmpty()) {
+            return false;
+        }
+        values.computeIfAbsent(prefix, key -> new ArrayList<>(1)).add(value);
+        return true;
+    }
+
+    /**
+     * Returns the trimmed text before the first prefix, which may be empty
+     */
+    public String getPreamble() {
+        return preamble;
+    }
+
+    /**
+     * Returns the value given for the prefix, if any
+     */
+    public Optional<String> getValue(Prefix prefix) {
+        List<String> prefixValues = values.get(prefix);
+        return prefixValues == null ? Optional.empty() : Optional.of(prefixValues.get(0));
+    }
+
+    /**
+     * Returns all values given for the prefix, in the order they were given
+     */
+    public List<String> getAllValues(Prefix prefix) {
+        List<String> prefixValues = values.get(prefix);
+        return prefixValues == null ? Collections.emptyList() : Collections.unmodifiableList(prefixValues);
+    }
+}
@@ -1,10 +1,6 @@
 package seedu.taskman.logic.parser;
 
 import seedu.taskman.logic.commands.*;
-import seedu.taskman.model.event.Activity;
-
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import static seedu.taskman.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.taskman.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
@@ -14,56 +10,6 @@ import static seedu.taskman.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
  */
 public class CommandParser {
 
-    /**
-     * Used for initial separation of command word and args.
-     */
-    private static final Pattern BASIC_COMMAND_FORMAT = Pattern.compile("(?<commandWord>\\S+)(?<arguments>.*)");
-
-    public enum Group {
-        panel("panel"),
-        targetIndex("targetIndex"),
-        title("title"),
-        keywords("keywords"),
-        deadline("deadline"),
-        schedule("schedule"),
-        status("status"),
-        tagArguments("tagArguments"),
-        commandWord("commandWord"),
-        arguments("arguments");
-
-        public String name;
-
-        Group(String s) {
-            name = s;
-        }
-    }
-
-    //@@author A0121299A
-    public enum ArgumentPattern {
-        PANEL("(?<" + Group.panel.name + ">" + Activity.PanelType.getPatternString() + ")"),
-        TARGET_INDEX("(?<" + Group.targetIndex.name + ">[0-9]+)"),
-        TITLE("(?<" + Group.title.name + ">[^/]+)"),
-        OPTIONAL_KEYWORDS("(?<" + Group.keywords.name + ">(?:\\s*[^/]+)*)?"),
-        OPTIONAL_DEADLINE("(?:\\s+d/(?<" + Group.deadline.name + ">[^/]+))?"),
-        SCHEDULE("(?:\\s+s/(?<" + Group.schedule.name + ">[^/]+))"),
-        OPTIONAL_SCHEDULE(SCHEDULE + "?"),
-        OPTIONAL_STATUS("(?:\\s+c/(?<" + Group.status.name + ">[^/]+))?"),
-        OPTIONAL_TAGS("(?<" + Group.tagArguments.name + ">(?:\\s*t/[^/]+)*)?"),
-        FILE_PATH(".+");
-
-        public final String pattern;
-
-        ArgumentPattern(String pattern) {
-            this.pattern = pattern;
-        }
-
-        @Override
-        public String toString() {
-            return pattern;
-        }
-    }
-    //@@author
-
     public CommandParser() {
     }
 
@@ -74,13 +20,18 @@ public class CommandParser {
      * @return the command based on the user input
      */
     public Command parseCommand(String userInput) {
-        final Matcher matcher = BASIC_COMMAND_FORMAT.matcher(userInput.trim());
-        if (!matcher.matches()) {
+        final String trimmedInput = userInput.trim();
+        if (trimmedInput.isEmpty()) {
             return new IncorrectCommand(String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE));
         }
 
-        final String commandWord = matcher.group(CommandParser.Group.commandWord.name);
-        final String arguments = matcher.group(CommandParser.Group.arguments.name);
+        // the command word is separated from the arguments by whitespace
+        int argumentsStart = 0;
+        while (argumentsStart < trimmedInput.length() && !Character.isWhitespace(trimmedInput.charAt(argumentsStart))) {
+            argumentsStart++;
+        }
+        final String commandWord = trimmedInput.substring(0, argumentsStart);
+        final String arguments = trimmedInput.substring(argumentsStart);
         switch (commandWord) {
 
             case AddCommand.COMMAND_WORD:
@@ -110,12 +61,18 @@ public class CommandParser {
             case HistoryCommand.COMMAND_WORD:
                 return new HistoryCommand();
 
+            case StatsCommand.COMMAND_WORD:
+                return new StatsCommand();
+
             case DeleteCommand.COMMAND_WORD:
                 return DeleteCommand.prepareDelete(arguments);
 
             case StoragelocCommand.COMMAND_WORD:
                 return StoragelocCommand.prepareStorageloc(arguments);
 
+            case ScriptCommand.COMMAND_WORD:
+                return ScriptCommand.prepareScript(arguments);
+
             case ClearCommand.COMMAND_WORD:
                 return new ClearCommand();
 
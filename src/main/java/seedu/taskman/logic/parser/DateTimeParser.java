@@ -3,18 +3,24 @@ package seedu.taskman.logic.parser;
 import com.joestelmach.natty.DateGroup;
 import com.joestelmach.natty.Parser;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.Collections;
 import java.util.Date;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
 //@@author A0139019E
 /**
@@ -26,11 +32,35 @@ import java.util.regex.Pattern;
  *
  * Durations & datetimes returned are only expected to be accurate to the nearest minute
  * Uses Natty internally to do the heavy lifting
+ *
+ * Recently parsed datetimes are cached for the rest of the current minute, as commands tend to repeat them
  */
 public class DateTimeParser {
-    private static final String REGEX_DURATION_SINGLE =  "(?:[1-9]+[0-9]*) " + // quantity
-            "(?:(?:minute)|(?:min)|(?:hrs)|(?:hour)|(?:day)|(?:week)|(?:month)|(?:year))s?"; // temporal units
-    private static final String REGEX_DURATION_MULTIPLE = "(" + REGEX_DURATION_SINGLE + ",? ?)+";
+    private static final String REGEX_DURATION_SINGLE =  "([1-9]+[0-9]*) " + // quantity
+            "((?:minute)|(?:min)|(?:hrs)|(?:hour)|(?:day)|(?:week)|(?:month)|(?:year))s?"; // temporal units
+    private static final String REGEX_DURATION_MULTIPLE = "(?:" + REGEX_DURATION_SINGLE + ",? ?)+";
+
+    private static final Pattern PATTERN_DURATION_SINGLE = Pattern.compile(REGEX_DURATION_SINGLE);
+    private static final Pattern PATTERN_DURATION_MULTIPLE = Pattern.compile(REGEX_DURATION_MULTIPLE);
+    private static final Pattern PATTERN_MULTIPLE_GROUPS_OF_FOUR_DIGITS = Pattern.compile("\\d{4}.*\\d{4}");
+    private static final Pattern PATTERN_DIGIT = Pattern.compile("\\d");
+    private static final Pattern PATTERN_WHITESPACE = Pattern.compile("\\s+");
+    // case insensitive, checks for a space or decimal before any common timezone
+    private static final Pattern PATTERN_TIMEZONE = compileTimeZonePattern();
+
+    private static final int DATE_TIME_CACHE_CAPACITY = 256;
+    // Natty is always given a reference time at this second of the minute,
+    // so results computed relative to the reference time can be told apart from absolute ones
+    private static final int REFERENCE_SECOND_OF_MINUTE = 1;
+
+    private static final ThreadLocal<Parser> NATTY_PARSER = ThreadLocal.withInitial(Parser::new);
+    private static final Map<String, ParsedDateTime> DATE_TIME_CACHE =
+            Collections.synchronizedMap(new LinkedHashMap<String, ParsedDateTime>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, ParsedDateTime> eldest) {
+                    return size() > DATE_TIME_CACHE_CAPACITY;
+                }
+            });
 
     public static final String DATE_TIME_EXAMPLES =
             "Examples: '2nd Wed from now 9pm',\t'09-07-15 23:45',\t'3pm' " +
@@ -64,10 +94,39 @@ public class DateTimeParser {
     public static long getEpochTime(String naturalDateTime) throws IllegalDateTimeException {
         String preProcessedDateTime = preProcessNaturalDateTime(naturalDateTime);
 
-        Optional<Date> dateOptional = parseNaturalDateTime(preProcessedDateTime);
-        Date date = dateOptional.orElseThrow(() -> new IllegalDateTimeException(MESSAGE_ERROR_UNKNOWN_DATETIME));
+        long epochTimeNow = Instant.now().getEpochSecond();
+        long minuteNow = epochTimeNow - Math.floorMod(epochTimeNow, 60);
+        String cacheKey = minuteNow + " " + preProcessedDateTime;
+
+        ParsedDateTime parsed = DATE_TIME_CACHE.get(cacheKey);
+        if (parsed == null) {
+            long referenceTime = minuteNow + REFERENCE_SECOND_OF_MINUTE;
+            Optional<Date> dateOptional = parseNaturalDateTime(preProcessedDateTime, referenceTime);
+            Date date = dateOptional.orElseThrow(() -> new IllegalDateTimeException(MESSAGE_ERROR_UNKNOWN_DATETIME));
+
+            parsed = new ParsedDateTime(date.toInstant().getEpochSecond(), referenceTime);
+            DATE_TIME_CACHE.put(cacheKey, parsed);
+        }
 
-        return date.toInstant().getEpochSecond();
+        return parsed.toEpochTime(epochTimeNow);
+    }
+
+    /**
+     * Result of parsing a datetime within a minute, which remains valid for the rest of that minute
+     */
+    private static class ParsedDateTime {
+        private final boolean isRelativeToNow;
+        private final long epochTimeOrOffset;
+
+        ParsedDateTime(long parsedEpochTime, long referenceTime) {
+            // datetimes entered by users are precise to the minute, any seconds come from the reference time
+            isRelativeToNow = Math.floorMod(parsedEpochTime, 60) == REFERENCE_SECOND_OF_MINUTE;
+            epochTimeOrOffset = isRelativeToNow ? parsedEpochTime - referenceTime : parsedEpochTime;
+        }
+
+        long toEpochTime(long epochTimeNow) {
+            return isRelativeToNow ? epochTimeNow + epochTimeOrOffset : epochTimeOrOffset;
+        }
     }
 
     /**
@@ -92,18 +151,21 @@ public class DateTimeParser {
 
         // Append local timezone to eliminate timezone ambiguity for relative datetimes,
         // formal datetimes and relaxed datetimes (refer to Natty documentation for more info)
-        return appendLocalTimeZone(rawNaturalDateTime);
+        String normalizedDateTime = PATTERN_WHITESPACE.matcher(rawNaturalDateTime.trim()).replaceAll(" ");
+        return appendLocalTimeZone(normalizedDateTime);
     }
 
     private static boolean hasMultipleGroupsOfFourDigits(String str) {
-        return str.matches(".*\\d{4}.*\\d{4}.*");
+        return PATTERN_MULTIPLE_GROUPS_OF_FOUR_DIGITS.matcher(str).find();
     }
 
     /**
-     * Parse a natural datetime string & return a Date
+     * Parse a natural datetime string relative to the reference time (in epoch seconds) & return a Date
      */
-    private static Optional<Date> parseNaturalDateTime(String naturalDateTime) throws IllegalDateTimeException {
-        List<DateGroup> dateGroups = new Parser().parse(naturalDateTime);
+    private static Optional<Date> parseNaturalDateTime(String naturalDateTime, long referenceTime)
+            throws IllegalDateTimeException {
+        Date referenceDate = Date.from(Instant.ofEpochSecond(referenceTime));
+        List<DateGroup> dateGroups = NATTY_PARSER.get().parse(naturalDateTime, referenceDate);
 
         // Assume the first DateGroup object provided by Natty contains the desired result
         if (dateGroups.isEmpty()) {
@@ -114,7 +176,7 @@ public class DateTimeParser {
 
         // Check for ignored digits, rejecting early if they exist
         // Ignored digits give a high probability of an inaccurate conversion
-        boolean resultIgnoresDigits = group.getFullText().replace(group.getText(), "").matches(".*\\d+.*");
+        boolean resultIgnoresDigits = PATTERN_DIGIT.matcher(group.getFullText().replace(group.getText(), "")).find();
         if (resultIgnoresDigits) {
             return Optional.empty();
         }
@@ -132,22 +194,19 @@ public class DateTimeParser {
      * Checks if the string contains any common timezone
      */
     private static boolean containsTimeZone(String naturalDateTime) {
-        // case insensitive regex checks for a space or decimal before the timezone
-        String timeZoneRegexWithFormat = "(?i).*((\\d)|( ))%1$s.*";
+        return PATTERN_TIMEZONE.matcher(naturalDateTime).find();
+    }
 
+    private static Pattern compileTimeZonePattern() {
         Set<String> immutableTimezones = ZoneId.SHORT_IDS.keySet();
         Set<String> timezones = new HashSet<>(immutableTimezones);
         timezones.add("UTC");
         timezones.add("GMT");
 
-        for (String timezone : timezones) {
-            String timeZoneRegex = String.format(timeZoneRegexWithFormat, timezone);
-            if (naturalDateTime.matches(timeZoneRegex)) {
-                return true;
-            }
-        }
-
-        return false;
+        String anyTimeZone = timezones.stream()
+                .map(Pattern::quote)
+                .collect(Collectors.joining("|"));
+        return Pattern.compile("(?:\\d| )(?:" + anyTimeZone + ")", Pattern.CASE_INSENSITIVE);
     }
 
     private static String appendLocalTimeZone(String dateTime) {
@@ -168,25 +227,53 @@ public class DateTimeParser {
     }
 
     public static long naturalDurationToSeconds(String naturalDuration) throws IllegalDateTimeException {
-        if (!naturalDuration.matches(REGEX_DURATION_MULTIPLE)) {
+        if (!PATTERN_DURATION_MULTIPLE.matcher(naturalDuration).matches()) {
             throw new IllegalDateTimeException(MESSAGE_ERROR_NON_CONFORMING_DURATION);
         } else {
-            // Natty support for natural durations
-            // Parse durations as relative datetimes into Natty
-            // Then subtract from current time to generate duration
+            // Each duration is added to the current time on its own,
+            // so calendar units like months are as long as they are from now
 
-            long epochTimeNow = Instant.now().getEpochSecond();
+            ZonedDateTime now = ZonedDateTime.now();
             long actualDurationSeconds = 0;
 
-            Pattern firstDuration = Pattern.compile(REGEX_DURATION_SINGLE);
-            Matcher matcher = firstDuration.matcher(naturalDuration);
+            Matcher matcher = PATTERN_DURATION_SINGLE.matcher(naturalDuration);
             while (matcher.find()) {
-                actualDurationSeconds += getEpochTime(matcher.group()) - epochTimeNow;
+                long quantity = Long.parseLong(matcher.group(1));
+                ChronoUnit unit = toTemporalUnit(matcher.group(2));
+                actualDurationSeconds += Duration.between(now, now.plus(quantity, unit)).getSeconds();
             }
 
             return actualDurationSeconds;
         }
     }
+
+    private static ChronoUnit toTemporalUnit(String durationUnit) {
+        switch (durationUnit) {
+            case "minute":
+            case "min": {
+                return ChronoUnit.MINUTES;
+            }
+            case "hrs":
+            case "hour": {
+                return ChronoUnit.HOURS;
+            }
+            case "day": {
+                return ChronoUnit.DAYS;
+            }
+            case "week": {
+                return ChronoUnit.WEEKS;
+            }
+            case "month": {
+                return ChronoUnit.MONTHS;
+            }
+            case "year": {
+                return ChronoUnit.YEARS;
+            }
+            default: {
+                throw new AssertionError("Unknown temporal unit: " + durationUnit);
+            }
+        }
+    }
     //@@author
 
     public static String epochSecondToDetailedDateTime(long epochSecond) {
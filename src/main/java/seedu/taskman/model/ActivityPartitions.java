@@ -0,0 +1,257 @@
+package seedu.taskman.model;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.taskman.model.event.Activity;
+import seedu.taskman.model.event.ActivityListObserver;
+import seedu.taskman.model.event.Deadline;
+import seedu.taskman.model.event.Schedule;
+
+import java.text.Collator;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.ToLongFunction;
+
+/**
+ * Keeps the activities shown in each panel in an observable list of their own,
+ * sorted in the order the panel shows them.
+ * <p>
+ * Changes to the list the partitions are built on are routed only to the partitions of the activities
+ * involved, so views over the other partitions are not notified of them.
+ * <p>
+ * Each partition caches the sort key of its activities as a primitive, and adds and removes activities
+ * by binary search over the cached keys, so it is never sorted again as a whole after a change.
+ * Filtering a partition keeps its order, so changing what a panel shows never sorts it either.
+ */
+class ActivityPartitions {
+
+    /** More activities than this added to or removed from a partition at once are applied in a single pass */
+    static final int BULK_THRESHOLD = 64;
+
+    private final Map<Activity.PanelType, Partition> partitions = new EnumMap<>(Activity.PanelType.class);
+
+    ActivityPartitions(ObservableList<Activity> activities) {
+        partitions.put(Activity.PanelType.SCHEDULE, new Partition(ActivityPartitions::getScheduleStart, null));
+        partitions.put(Activity.PanelType.DEADLINE, new Partition(ActivityPartitions::getDeadline, null));
+        // Floating tasks have no time to sort by, so they all share a key and are ordered by the tie break
+        partitions.put(Activity.PanelType.FLOATING, new Partition(activity -> 0L, new FloatingComparator()));
+        route(activities).forEach((panel, added) -> partitions.get(panel).addAll(added));
+        activities.addListener(new ActivityListObserver(
+                removed -> route(removed).forEach((panel, routed) -> partitions.get(panel).removeAll(routed)),
+                added -> route(added).forEach((panel, routed) -> partitions.get(panel).addAll(routed))));
+    }
+
+    /**
+     * Returns the sorted activities of the given panel, which must not be modified
+     */
+    ObservableList<Activity> getPartition(Activity.PanelType panel) {
+        Partition partition = partitions.get(panel);
+        assert partition != null : "No such panel.";
+        return partition.activities;
+    }
+
+    /**
+     * Groups the activities by the panels they are shown in
+     */
+    private static Map<Activity.PanelType, List<Activity>> route(List<? extends Activity> activities) {
+        Map<Activity.PanelType, List<Activity>> routed = new EnumMap<>(Activity.PanelType.class);
+        for (Activity activity : activities) {
+            if (activity.getSchedule().isPresent()) {
+                routed.computeIfAbsent(Activity.PanelType.SCHEDULE, panel -> new ArrayList<>()).add(activity);
+            }
+            if (activity.getType() == Activity.ActivityType.TASK) {
+                Activity.PanelType panel = activity.getDeadline().isPresent()
+                        ? Activity.PanelType.DEADLINE
+                        : Activity.PanelType.FLOATING;
+                routed.computeIfAbsent(panel, key -> new ArrayList<>()).add(activity);
+            }
+        }
+        return routed;
+    }
+
+    /**
+     * The activities of one panel, sorted by a sort key worked out once when each activity is added.
+     * Activities with equal keys are ordered by the tie break if there is one,
+     * and otherwise kept in the order they were added.
+     */
+    private static class Partition {
+        private final ObservableList<Activity> activities = FXCollections.observableArrayList();
+        private final ToLongFunction<Activity> sortKey;
+        private final Comparator<Activity> tieBreak;
+
+        // keys[i] is the sort key of activities.get(i)
+        private long[] keys = new long[16];
+
+        Partition(ToLongFunction<Activity> sortKey, Comparator<Activity> tieBreak) {
+            this.sortKey = sortKey;
+            this.tieBreak = tieBreak;
+        }
+
+        void addAll(List<Activity> toAdd) {
+            if (toAdd.size() <= BULK_THRESHOLD) {
+                toAdd.forEach(this::add);
+                return;
+            }
+            List<KeyedActivity> merged = new ArrayList<>(activities.size() + toAdd.size());
+            for (int i = 0; i < activities.size(); i++) {
+                merged.add(new KeyedActivity(keys[i], activities.get(i)));
+            }
+            toAdd.forEach(activity -> merged.add(new KeyedActivity(sortKey.applyAsLong(activity), activity)));
+            merged.sort(this::compare);
+
+            keys = new long[Math.max(16, merged.size() * 3 / 2)];
+            List<Activity> sorted = new ArrayList<>(merged.size());
+            for (int i = 0; i < merged.size(); i++) {
+                keys[i] = merged.get(i).key;
+                sorted.add(merged.get(i).activity);
+            }
+            activities.setAll(sorted);
+        }
+
+        void removeAll(List<Activity> toRemove) {
+            if (toRemove.size() <= BULK_THRESHOLD) {
+                toRemove.forEach(this::remove);
+                return;
+            }
+            Set<Activity> removed = Collections.newSetFromMap(new IdentityHashMap<>());
+            removed.addAll(toRemove);
+            int kept = 0;
+            for (int i = 0; i < activities.size(); i++) {
+                if (!removed.contains(activities.get(i))) {
+                    keys[kept++] = keys[i];
+                }
+            }
+            activities.removeAll(removed);
+            assert kept == activities.size();
+        }
+
+        private void add(Activity activity) {
+            long key = sortKey.applyAsLong(activity);
+            int size = activities.size();
+            int index = upperBound(key, activity);
+            if (size == keys.length) {
+                keys = Arrays.copyOf(keys, size * 2);
+            }
+            System.arraycopy(keys, index, keys, index + 1, size - index);
+            keys[index] = key;
+            activities.add(index, activity);
+        }
+
+        private void remove(Activity activity) {
+            int index = indexOf(activity);
+            if (index < 0) {
+                return;
+            }
+            System.arraycopy(keys, index + 1, keys, index, activities.size() - index - 1);
+            activities.remove(index);
+        }
+
+        /**
+         * Returns the index after the last activity ordered before or equally to the given activity
+         */
+        private int upperBound(long key, Activity activity) {
+            int low = 0;
+            int high = activities.size();
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (compareAt(mid, key, activity) <= 0) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        /**
+         * Returns the index of the given activity object, or -1 if it is not in the partition
+         */
+        private int indexOf(Activity activity) {
+            long key = sortKey.applyAsLong(activity);
+            int low = 0;
+            int high = activities.size();
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (compareAt(mid, key, activity) < 0) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            for (int i = low; i < activities.size() && compareAt(i, key, activity) == 0; i++) {
+                if (activities.get(i) == activity) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        private int compareAt(int index, long key, Activity activity) {
+            int byKey = Long.compare(keys[index], key);
+            if (byKey != 0 || tieBreak == null) {
+                return byKey;
+            }
+            return tieBreak.compare(activities.get(index), activity);
+        }
+
+        private int compare(KeyedActivity first, KeyedActivity second) {
+            int byKey = Long.compare(first.key, second.key);
+            if (byKey != 0 || tieBreak == null) {
+                return byKey;
+            }
+            return tieBreak.compare(first.activity, second.activity);
+        }
+    }
+
+    private static class KeyedActivity {
+        private final long key;
+        private final Activity activity;
+
+        KeyedActivity(long key, Activity activity) {
+            this.key = key;
+            this.activity = activity;
+        }
+    }
+
+    /*
+     * Schedules are sorted by start time.
+     */
+    private static long getScheduleStart(Activity activity) {
+        Optional<Schedule> schedule = activity.getSchedule();
+        if (!schedule.isPresent()) {
+            throw new AssertionError("There are activities in the schedules table that have no schedules!", null);
+        }
+        return schedule.get().startEpochSecond;
+    }
+
+    /*
+     * Deadlines are sorted by deadline.
+     */
+    private static long getDeadline(Activity activity) {
+        Optional<Deadline> deadline = activity.getDeadline();
+        if (!deadline.isPresent()) {
+            throw new AssertionError("There are activities in the deadlines table that have no deadlines!", null);
+        }
+        return deadline.get().epochSecond;
+    }
+
+    /*
+     * Comparator to sort floating tasks by their text, as the floating panel has always been sorted.
+     */
+    private static class FloatingComparator implements Comparator<Activity> {
+        private final Collator collator = Collator.getInstance();
+
+        @Override
+        public int compare(Activity activity1, Activity activity2) {
+            return collator.compare(activity1.toString(), activity2.toString());
+        }
+    }
+}
@@ -0,0 +1,183 @@
+package seedu.taskman.model;
+
+import javafx.collections.ObservableList;
+import seedu.taskman.model.event.Activity;
+import seedu.taskman.model.event.ActivityListObserver;
+import seedu.taskman.model.tag.Tag;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Inverted index from the words in activity titles and the names of activity tags to the activities containing them.
+ * Title words are indexed in lower case, as keyword searches ignore case.
+ * <p>
+ * The index follows every change made to the list it is built on, and keeps the matches of the searches
+ * in progress up to date. It must be attached before any filtered view of that list, so that the matches
+ * are already up to date when the filters are re-evaluated.
+ */
+class ActivitySearchIndex {
+
+    private static final Pattern TITLE_WORD_SEPARATOR = Pattern.compile("\\s+");
+
+    private final Map<String, Set<Activity>> activitiesByTitleWord = new HashMap<>();
+    private final Map<String, Set<Activity>> activitiesByTagName = new HashMap<>();
+    private final List<Search> searches = new ArrayList<>();
+
+    ActivitySearchIndex(ObservableList<Activity> activities) {
+        activities.forEach(this::index);
+        activities.addListener(new ActivityListObserver(
+                removed -> removed.forEach(this::unindex), added -> added.forEach(this::index)));
+    }
+
+    private void index(Activity activity) {
+        String[] titleWords = getTitleWords(activity);
+        for (String word : titleWords) {
+            activitiesByTitleWord.computeIfAbsent(word, key -> newActivitySet()).add(activity);
+        }
+        for (Tag tag : activity.getTags()) {
+            activitiesByTagName.computeIfAbsent(tag.tagName, key -> newActivitySet()).add(activity);
+        }
+        for (Search search : searches) {
+            search.offer(activity, titleWords);
+        }
+    }
+
+    private void unindex(Activity activity) {
+        for (String word : getTitleWords(activity)) {
+            removeFromIndex(activitiesByTitleWord, word, activity);
+        }
+        for (Tag tag : activity.getTags()) {
+            removeFromIndex(activitiesByTagName, tag.tagName, activity);
+        }
+        for (Search search : searches) {
+            search.matches.remove(activity);
+        }
+    }
+
+    private static void removeFromIndex(Map<String, Set<Activity>> index, String key, Activity activity) {
+        Set<Activity> activities = index.get(key);
+        if (activities == null) {
+            return;
+        }
+        activities.remove(activity);
+        if (activities.isEmpty()) {
+            index.remove(key);
+        }
+    }
+
+    /**
+     * Activities in the list are distinct objects, so they are tracked by identity
+     */
+    private static Set<Activity> newActivitySet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+
+    private static String[] getTitleWords(Activity activity) {
+        return TITLE_WORD_SEPARATOR.split(toIndexedTitleWord(activity.getTitle().title));
+    }
+
+    /**
+     * Returns the form in which the given title word is indexed
+     */
+    static String toIndexedTitleWord(String word) {
+        return word.toLowerCase();
+    }
+
+    /**
+     * Returns the form in which the given tag name is indexed
+     */
+    static String toIndexedTagName(String tagName) {
+        return tagName.trim();
+    }
+
+    /**
+     * Starts a search for the activities with a title word among the given words, if any are given,
+     * and a tag among the given tag names, if any are given. At least one word or tag name must be given.
+     * <p>
+     * The matching activities are found by joining the index entries of the words and tag names,
+     * so activities which do not match are never examined. The search then follows later changes to the index
+     * until it is ended with {@link #endSearch(Search)}.
+     *
+     * @param titleWords as returned by {@link #toIndexedTitleWord(String)}
+     * @param tagNames as returned by {@link #toIndexedTagName(String)}
+     */
+    Search startSearch(Set<String> titleWords, Set<String> tagNames) {
+        assert !titleWords.isEmpty() || !tagNames.isEmpty() : "Nothing to search for";
+        Search search = new Search(titleWords, tagNames);
+        Set<Activity> byTitleWord = titleWords.isEmpty() ? null : join(activitiesByTitleWord, titleWords);
+        Set<Activity> byTagName = tagNames.isEmpty() ? null : join(activitiesByTagName, tagNames);
+        if (byTitleWord == null) {
+            search.matches.addAll(byTagName);
+        } else if (byTagName == null) {
+            search.matches.addAll(byTitleWord);
+        } else {
+            Set<Activity> smaller = byTitleWord.size() <= byTagName.size() ? byTitleWord : byTagName;
+            Set<Activity> larger = smaller == byTitleWord ? byTagName : byTitleWord;
+            for (Activity activity : smaller) {
+                if (larger.contains(activity)) {
+                    search.matches.add(activity);
+                }
+            }
+        }
+        searches.add(search);
+        return search;
+    }
+
+    /**
+     * Stops the search from following changes to the index
+     */
+    void endSearch(Search search) {
+        searches.remove(search);
+    }
+
+    /**
+     * Returns the activities indexed under any of the given keys
+     */
+    private static Set<Activity> join(Map<String, Set<Activity>> index, Set<String> keys) {
+        Set<Activity> joined = newActivitySet();
+        for (String key : keys) {
+            joined.addAll(index.getOrDefault(key, Collections.emptySet()));
+        }
+        return joined;
+    }
+
+    /**
+     * The activities matching a search, kept up to date by the index while the search is in progress
+     */
+    static class Search {
+        private final Set<String> titleWords;
+        private final Set<String> tagNames;
+        private final Set<Activity> matches = newActivitySet();
+
+        private Search(Set<String> titleWords, Set<String> tagNames) {
+            this.titleWords = new HashSet<>(titleWords);
+            this.tagNames = new HashSet<>(tagNames);
+        }
+
+        boolean matches(Activity activity) {
+            return matches.contains(activity);
+        }
+
+        /**
+         * Adds the newly indexed activity if it matches the search
+         */
+        private void offer(Activity activity, String[] activityTitleWords) {
+            boolean hasTitleWord = titleWords.isEmpty()
+                    || Arrays.stream(activityTitleWords).anyMatch(titleWords::contains);
+            boolean hasTagName = tagNames.isEmpty()
+                    || activity.getTags().toSet().stream().anyMatch(tag -> tagNames.contains(tag.tagName));
+            if (hasTitleWord && hasTagName) {
+                matches.add(activity);
+            }
+        }
+    }
+}
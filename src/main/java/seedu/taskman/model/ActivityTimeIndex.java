@@ -0,0 +1,90 @@
+package seedu.taskman.model;
+
+import javafx.collections.ObservableList;
+import seedu.taskman.model.event.Activity;
+import seedu.taskman.model.event.ActivityListObserver;
+import seedu.taskman.model.event.Deadline;
+import seedu.taskman.model.event.Schedule;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Index of activities by the time of their schedules and deadlines, answering range queries
+ * without scanning every activity.
+ * <p>
+ * A schedule occupies the time from its start (inclusive) to its end (exclusive),
+ * except that a schedule ending when it starts occupies its starting second.
+ * <p>
+ * The index follows every change made to the list it is built on.
+ */
+class ActivityTimeIndex {
+
+    private final IntervalTree<Activity> schedules = new IntervalTree<>();
+    private final TreeMap<Long, Set<Activity>> activitiesByDeadline = new TreeMap<>();
+
+    ActivityTimeIndex(ObservableList<Activity> activities) {
+        activities.forEach(this::index);
+        activities.addListener(new ActivityListObserver(
+                removed -> removed.forEach(this::unindex), added -> added.forEach(this::index)));
+    }
+
+    private void index(Activity activity) {
+        Optional<Schedule> schedule = activity.getSchedule();
+        if (schedule.isPresent()) {
+            long start = schedule.get().startEpochSecond;
+            schedules.add(activity, start, Math.max(schedule.get().endEpochSecond, start + 1));
+        }
+        Optional<Deadline> deadline = activity.getDeadline();
+        if (deadline.isPresent()) {
+            activitiesByDeadline
+                    .computeIfAbsent(deadline.get().epochSecond,
+                            key -> Collections.newSetFromMap(new IdentityHashMap<>()))
+                    .add(activity);
+        }
+    }
+
+    private void unindex(Activity activity) {
+        schedules.remove(activity);
+        Optional<Deadline> deadline = activity.getDeadline();
+        if (deadline.isPresent()) {
+            Set<Activity> sameDeadline = activitiesByDeadline.get(deadline.get().epochSecond);
+            if (sameDeadline == null) {
+                return;
+            }
+            sameDeadline.remove(activity);
+            if (sameDeadline.isEmpty()) {
+                activitiesByDeadline.remove(deadline.get().epochSecond);
+            }
+        }
+    }
+
+    /**
+     * Returns the activities whose schedules overlap the period from start (inclusive) to end (exclusive),
+     * ordered by the start of their schedules.
+     */
+    List<Activity> getScheduledBetween(long startEpochSecond, long endEpochSecond) {
+        List<Activity> overlapping = new ArrayList<>();
+        schedules.forEachOverlapping(startEpochSecond, endEpochSecond, overlapping::add);
+        return overlapping;
+    }
+
+    /**
+     * Returns the activities with deadlines from start to end (both inclusive), ordered by deadline.
+     */
+    List<Activity> getDueBetween(long startEpochSecond, long endEpochSecond) {
+        List<Activity> due = new ArrayList<>();
+        if (startEpochSecond > endEpochSecond) {
+            return due;
+        }
+        activitiesByDeadline.subMap(startEpochSecond, true, endEpochSecond, true)
+                .values()
+                .forEach(due::addAll);
+        return due;
+    }
+}
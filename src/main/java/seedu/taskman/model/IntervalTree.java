@@ -0,0 +1,185 @@
+package seedu.taskman.model;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Consumer;
+
+/**
+ * Set of values, each spanning an interval of time from a start (inclusive) to an end (exclusive).
+ * Values are compared by identity.
+ * <p>
+ * Implemented as a treap ordered by start, where every node also records the latest end in its subtree.
+ * Adding, removing and finding the values overlapping a period take logarithmic time, plus the number of
+ * values found.
+ */
+class IntervalTree<T> {
+
+    private static class Node<T> {
+        final long start;
+        final long end;
+        final long sequence; // breaks ties between equal starts
+        final int priority;
+        final T value;
+        long maxEnd;
+        Node<T> left;
+        Node<T> right;
+
+        Node(long start, long end, long sequence, int priority, T value) {
+            this.start = start;
+            this.end = end;
+            this.sequence = sequence;
+            this.priority = priority;
+            this.value = value;
+            this.maxEnd = end;
+        }
+
+        boolean isBefore(Node<T> other) {
+            return start < other.start || (start == other.start && sequence < other.sequence);
+        }
+    }
+
+    private final Map<T, Node<T>> nodes = new IdentityHashMap<>();
+    private final Random priorities = new Random();
+    private Node<T> root;
+    private long nextSequence;
+
+    public int size() {
+        return nodes.size();
+    }
+
+    /**
+     * Adds the value spanning from start to end. Replaces the interval of the value if it was already added.
+     */
+    public void add(T value, long start, long end) {
+        assert start <= end;
+        remove(value);
+        Node<T> node = new Node<>(start, end, nextSequence++, priorities.nextInt(), value);
+        nodes.put(value, node);
+        root = insert(root, node);
+    }
+
+    /**
+     * Removes the value, returning true if it was present.
+     */
+    public boolean remove(T value) {
+        Node<T> node = nodes.remove(value);
+        if (node == null) {
+            return false;
+        }
+        root = delete(root, node);
+        return true;
+    }
+
+    public void clear() {
+        nodes.clear();
+        root = null;
+    }
+
+    /**
+     * Passes every value whose interval overlaps the period from start (inclusive) to end (exclusive)
+     * to the consumer, in order of their starts.
+     */
+    public void forEachOverlapping(long start, long end, Consumer<? super T> consumer) {
+        forEachOverlapping(root, start, end, consumer);
+    }
+
+    private static <T> void forEachOverlapping(Node<T> node, long start, long end, Consumer<? super T> consumer) {
+        // nothing in this subtree ends after the period starts
+        if (node == null || node.maxEnd <= start) {
+            return;
+        }
+        forEachOverlapping(node.left, start, end, consumer);
+        // this node and everything to its right start after the period ends
+        if (node.start >= end) {
+            return;
+        }
+        if (node.end > start) {
+            consumer.accept(node.value);
+        }
+        forEachOverlapping(node.right, start, end, consumer);
+    }
+
+    private static <T> Node<T> insert(Node<T> subtree, Node<T> node) {
+        if (subtree == null) {
+            return node;
+        }
+        if (node.isBefore(subtree)) {
+            subtree.left = insert(subtree.left, node);
+            if (subtree.left.priority > subtree.priority) {
+                subtree = rotateRight(subtree);
+            }
+        } else {
+            subtree.right = insert(subtree.right, node);
+            if (subtree.right.priority > subtree.priority) {
+                subtree = rotateLeft(subtree);
+            }
+        }
+        updateMaxEnd(subtree);
+        return subtree;
+    }
+
+    private static <T> Node<T> delete(Node<T> subtree, Node<T> node) {
+        assert subtree != null : "Node to delete is not in the tree";
+        if (subtree == node) {
+            return merge(subtree.left, subtree.right);
+        }
+        if (node.isBefore(subtree)) {
+            subtree.left = delete(subtree.left, node);
+        } else {
+            subtree.right = delete(subtree.right, node);
+        }
+        updateMaxEnd(subtree);
+        return subtree;
+    }
+
+    /**
+     * Merges two subtrees, where every node of the left subtree is before every node of the right subtree.
+     */
+    private static <T> Node<T> merge(Node<T> left, Node<T> right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            updateMaxEnd(left);
+            return left;
+        } else {
+            right.left = merge(left, right.left);
+            updateMaxEnd(right);
+            return right;
+        }
+    }
+
+    private static <T> Node<T> rotateRight(Node<T> node) {
+        Node<T> newRoot = node.left;
+        node.left = newRoot.right;
+        newRoot.right = node;
+        updateMaxEnd(node);
+        updateMaxEnd(newRoot);
+        return newRoot;
+    }
+
+    private static <T> Node<T> rotateLeft(Node<T> node) {
+        Node<T> newRoot = node.right;
+        node.right = newRoot.left;
+        newRoot.left = node;
+        updateMaxEnd(node);
+        updateMaxEnd(newRoot);
+        return newRoot;
+    }
+
+    private static <T> void updateMaxEnd(Node<T> node) {
+        long maxEnd = node.end;
+        if (node.left != null) {
+            maxEnd = Math.max(maxEnd, node.left.maxEnd);
+        }
+        if (node.right != null) {
+            maxEnd = Math.max(maxEnd, node.right.maxEnd);
+        }
+        node.maxEnd = maxEnd;
+    }
+}
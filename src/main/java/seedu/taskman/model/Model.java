@@ -7,6 +7,8 @@ import seedu.taskman.model.event.UniqueActivityList;
 import seedu.taskman.model.tag.Tag;
 
 import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -17,14 +19,50 @@ public interface Model {
     /** Clears existing backing model and replaces with the provided new data. */
     void resetData(ReadOnlyTaskMan newData);
 
+    /**
+     * Replaces the whole TaskMan data with the data just read from storage.
+     * Unlike {@link #resetData(ReadOnlyTaskMan)}, no change is raised, as storage already has this data.
+     */
+    void loadData(ReadOnlyTaskMan storedData);
+
     ReadOnlyTaskMan getTaskMan();
 
+    /**
+     * Returns the version of the data, which increases with every change announced by a
+     * {@link seedu.taskman.commons.events.model.TaskManChangedEvent}
+     */
+    long getVersion();
+
     void deleteActivity(Activity target) throws UniqueActivityList.ActivityNotFoundException;
 
     void addActivity(Event task) throws UniqueActivityList.DuplicateActivityException;
 
     void addActivity(Activity activity) throws UniqueActivityList.DuplicateActivityException;
 
+    /** Starts recording the changes made to the data, until {@link #stopRecordingChanges()} is called. */
+    void startRecordingChanges();
+
+    /** Stops recording and returns the changes made to the data since {@link #startRecordingChanges()}. */
+    TaskManDelta stopRecordingChanges();
+
+    /**
+     * Reverts the given changes, which must be ordered from the most recent
+     * and be the latest changes made to the data.
+     */
+    void revertChanges(List<TaskManDelta> changes);
+
+    /**
+     * Starts a transaction. The changes made until {@link #commitTransaction()} raise a single change event,
+     * and can be reverted together with {@link #rollbackTransaction()}. Transactions cannot be nested.
+     */
+    void startTransaction();
+
+    /** Ends the transaction, raising one change event if the data was changed during it. */
+    void commitTransaction();
+
+    /** Reverts the changes made during the transaction and ends it. No change event is raised. */
+    void rollbackTransaction();
+
     UnmodifiableObservableList<Activity> getActivityListForPanelType(Activity.PanelType type);
     
     /**
@@ -43,10 +81,26 @@ public interface Model {
     UnmodifiableObservableList<Activity> getSortedFloatingList();
     
     /**
-     * Returns the list of tags as an {@code UnmodifiableObservableList<Tag>}
+     * Returns the tags used by any activity, in the order they were first used
      */
     ArrayList<Tag> getTagList();
 
+    /**
+     * Returns an unmodifiable view of the number of activities using each tag in use
+     */
+    Map<Tag, Integer> getTagUsageCounts();
+
+    /**
+     * Returns the activities with schedules overlapping the period from start (inclusive) to end (exclusive),
+     * ordered by the start of their schedules
+     */
+    List<Activity> getActivitiesScheduledBetween(long startEpochSecond, long endEpochSecond);
+
+    /**
+     * Returns the tasks with deadlines from start to end (both inclusive), ordered by deadline
+     */
+    List<Activity> getActivitiesDueBetween(long startEpochSecond, long endEpochSecond);
+
     /**
      * Updates the filter of all filtered activity panels to show all activities
      */
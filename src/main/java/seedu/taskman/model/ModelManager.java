@@ -1,32 +1,26 @@
 package seedu.taskman.model;
 
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
-import javafx.collections.transformation.SortedList;
 import seedu.taskman.commons.core.ComponentManager;
 import seedu.taskman.commons.core.LogsCenter;
 import seedu.taskman.commons.core.UnmodifiableObservableList;
 import seedu.taskman.commons.events.model.TaskManChangedEvent;
-import seedu.taskman.commons.exceptions.IllegalValueException;
-import seedu.taskman.commons.util.StringUtil;
 import seedu.taskman.model.event.Activity;
-import seedu.taskman.model.event.Deadline;
 import seedu.taskman.model.event.Event;
-import seedu.taskman.model.event.Schedule;
 import seedu.taskman.model.event.UniqueActivityList;
 import seedu.taskman.model.event.UniqueActivityList.ActivityNotFoundException;
 import seedu.taskman.model.tag.Tag;
-import seedu.taskman.model.tag.UniqueTagList;
-
-import javax.annotation.Nonnull;
 
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.Comparator;
-import java.util.Optional;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
-import java.util.function.Predicate;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
 
 /**
  * Represents the in-memory model of the TaskMan data.
@@ -38,14 +32,25 @@ public class ModelManager extends ComponentManager implements Model {
     private final TaskMan taskMan;
     
     private final ObservableList<Activity> activities;
+    private final ActivitySearchIndex searchIndex;
+    private final TagRegistry tagRegistry;
+    private final ActivityTimeIndex timeIndex;
+    private final ActivityPartitions partitions;
     
     private final FilteredList<Activity> filteredSchedules;
     private final FilteredList<Activity> filteredDeadlines;
     private final FilteredList<Activity> filteredFloatings;
-    
-    private final SortedList<Activity> sortedSchedules;
-    private final SortedList<Activity> sortedDeadlines;
-    private final SortedList<Activity> sortedFloatings;
+    private final Map<Activity.PanelType, ActivitySearchIndex.Search> panelSearches =
+            new EnumMap<>(Activity.PanelType.class);
+
+    private final TaskManChangeRecorder pendingChanges = new TaskManChangeRecorder();
+    private long version;
+    // The data as last announced
+    private TaskManSnapshot snapshot;
+
+    private TaskManDelta recordedChanges;
+    private TaskManDelta transactionChanges;
+    private boolean changedInTransaction;
 
     /**
      * Initializes a ModelManager with the given TaskMan
@@ -55,27 +60,33 @@ public class ModelManager extends ComponentManager implements Model {
         super();
         assert src != null;
 
-        logger.fine("Initializing with Task Man: " + src);
+        logger.fine(() -> "Initializing with Task Man: " + src);
 
         taskMan = new TaskMan(src);
         activities = taskMan.getActivities();
-        filteredSchedules = activities.filtered(new SchedulePredicate());
-        filteredDeadlines = activities.filtered(new DeadlinePredicate());
-        filteredFloatings = activities.filtered(new FloatingPredicate());
-        sortedSchedules = filteredSchedules.sorted(new ScheduleComparator());
-        sortedDeadlines = filteredDeadlines.sorted(new DeadlineComparator());
-        sortedFloatings = filteredFloatings.sorted();
+        searchIndex = new ActivitySearchIndex(activities);
+        tagRegistry = new TagRegistry(activities);
+        timeIndex = new ActivityTimeIndex(activities);
+        partitions = new ActivityPartitions(activities);
+        filteredSchedules = new FilteredList<>(partitions.getPartition(Activity.PanelType.SCHEDULE));
+        filteredDeadlines = new FilteredList<>(partitions.getPartition(Activity.PanelType.DEADLINE));
+        filteredFloatings = new FilteredList<>(partitions.getPartition(Activity.PanelType.FLOATING));
+        activities.addListener(this::recordChange);
+        snapshot = new TaskManSnapshot(taskMan);
     }
 
     public ModelManager(ReadOnlyTaskMan initialData) {
         taskMan = new TaskMan(initialData);
         activities = taskMan.getActivities();
-        filteredSchedules = activities.filtered(new SchedulePredicate());
-        filteredDeadlines = activities.filtered(new DeadlinePredicate());
-        filteredFloatings = activities.filtered(new FloatingPredicate());
-        sortedSchedules = filteredSchedules.sorted(new ScheduleComparator());
-        sortedDeadlines = filteredDeadlines.sorted(new DeadlineComparator());
-        sortedFloatings = filteredFloatings.sorted();
+        searchIndex = new ActivitySearchIndex(activities);
+        tagRegistry = new TagRegistry(activities);
+        timeIndex = new ActivityTimeIndex(activities);
+        partitions = new ActivityPartitions(activities);
+        filteredSchedules = new FilteredList<>(partitions.getPartition(Activity.PanelType.SCHEDULE));
+        filteredDeadlines = new FilteredList<>(partitions.getPartition(Activity.PanelType.DEADLINE));
+        filteredFloatings = new FilteredList<>(partitions.getPartition(Activity.PanelType.FLOATING));
+        activities.addListener(this::recordChange);
+        snapshot = new TaskManSnapshot(taskMan);
     }
 
     @Override
@@ -84,15 +95,38 @@ public class ModelManager extends ComponentManager implements Model {
         indicateTaskManChanged();
     }
 
+    /**
+     * The stored activities are shared rather than copied.
+     */
+    @Override
+    public synchronized void loadData(ReadOnlyTaskMan storedData) {
+        taskMan.setActivities(new ArrayList<>(storedData.getActivityList()));
+        pendingChanges.clear();
+        snapshot = new TaskManSnapshot(taskMan);
+    }
+
     public ReadOnlyTaskMan getTaskMan() {
         return taskMan;
     }
 
+    @Override
+    public synchronized long getVersion() {
+        return version;
+    }
+
     /**
-     * Raises an event to indicate the model has changed
+     * Raises an event with the changes made since the last event to indicate the model has changed,
+     * or defers it to the end of the transaction in progress
      */
     private void indicateTaskManChanged() {
-        raise(new TaskManChangedEvent(taskMan));
+        if (transactionChanges != null) {
+            changedInTransaction = true;
+            return;
+        }
+        version++;
+        TaskManChangeSet changes = pendingChanges.takeChangeSet();
+        snapshot = snapshot.withChanges(changes, taskMan);
+        raise(new TaskManChangedEvent(snapshot, changes, version));
     }
 
     @Override
@@ -113,8 +147,75 @@ public class ModelManager extends ComponentManager implements Model {
         indicateTaskManChanged();
     }
 
+    //=========== Undo Support ===========================================================================
+
+    private void recordChange(ListChangeListener.Change<? extends Activity> change) {
+        pendingChanges.record(change);
+        if (recordedChanges != null) {
+            change.reset();
+            recordedChanges.record(change);
+        }
+        if (transactionChanges != null) {
+            change.reset();
+            transactionChanges.record(change);
+        }
+    }
+
+    @Override
+    public synchronized void startRecordingChanges() {
+        recordedChanges = new TaskManDelta();
+    }
+
+    @Override
+    public synchronized TaskManDelta stopRecordingChanges() {
+        assert recordedChanges != null : "Changes are not being recorded";
+        TaskManDelta changes = recordedChanges;
+        recordedChanges = null;
+        return changes;
+    }
+
+    @Override
+    public synchronized void revertChanges(List<TaskManDelta> changes) {
+        for (TaskManDelta delta : changes) {
+            delta.revert(activities);
+        }
+        indicateTaskManChanged();
+    }
+
+    //=========== Transactions ===========================================================================
+
+    @Override
+    public synchronized void startTransaction() {
+        assert transactionChanges == null : "Transactions cannot be nested";
+        transactionChanges = new TaskManDelta();
+        changedInTransaction = false;
+    }
+
+    @Override
+    public synchronized void commitTransaction() {
+        assert transactionChanges != null : "No transaction in progress";
+        transactionChanges = null;
+        if (changedInTransaction) {
+            indicateTaskManChanged();
+        }
+    }
+
+    /**
+     * The data is back to its state before the transaction, which is the state last announced,
+     * so no change event is needed.
+     */
+    @Override
+    public synchronized void rollbackTransaction() {
+        assert transactionChanges != null : "No transaction in progress";
+        TaskManDelta changes = transactionChanges;
+        transactionChanges = null;
+        changes.revert(activities);
+        pendingChanges.clear();
+    }
+
     //=========== Sorted Task List Accessors ===============================================================
 
+    // Each panel filters the partition of activities it shows, which is already sorted in the panel's order
 
     @Override
     public UnmodifiableObservableList<Activity> getActivityListForPanelType(Activity.PanelType type) {
@@ -139,30 +240,17 @@ public class ModelManager extends ComponentManager implements Model {
     }
     
     public void updateFilteredPanel(Activity.PanelType panel, Set<String> keywords, Set<String> tagNames) {
-        Expression schedule = new PredicateExpression(
-                new ActivityQualifier(Activity.PanelType.SCHEDULE, keywords, tagNames));
-        Expression deadline = new PredicateExpression(
-                new ActivityQualifier(Activity.PanelType.DEADLINE, keywords, tagNames));
-        Expression floating = new PredicateExpression(
-                new ActivityQualifier(Activity.PanelType.FLOATING, keywords, tagNames));
-
         switch(panel) {
             case ALL: {
-                filteredSchedules.setPredicate(schedule::satisfies);
-                filteredDeadlines.setPredicate(deadline::satisfies);
-                filteredFloatings.setPredicate(floating::satisfies);
-                return;
-            }
-            case SCHEDULE: {
-                filteredSchedules.setPredicate(schedule::satisfies);
-                return;
-            }
-            case DEADLINE: {
-                filteredDeadlines.setPredicate(deadline::satisfies);
+                filterPanel(Activity.PanelType.SCHEDULE, keywords, tagNames);
+                filterPanel(Activity.PanelType.DEADLINE, keywords, tagNames);
+                filterPanel(Activity.PanelType.FLOATING, keywords, tagNames);
                 return;
             }
+            case SCHEDULE:
+            case DEADLINE:
             case FLOATING: {
-                filteredFloatings.setPredicate(floating::satisfies);
+                filterPanel(panel, keywords, tagNames);
                 return;
             }
             default: {
@@ -171,208 +259,86 @@ public class ModelManager extends ComponentManager implements Model {
         }
     }
 
+    /**
+     * Shows the activities of the panel with a title word among the keywords and a tag among the tag names,
+     * or all activities of the panel if there are neither.
+     * The matching activities are looked up in the search index, so the others are never examined.
+     */
+    private void filterPanel(Activity.PanelType panel, Set<String> keywords, Set<String> tagNames) {
+        ActivitySearchIndex.Search previousSearch = panelSearches.remove(panel);
+        if (previousSearch != null) {
+            searchIndex.endSearch(previousSearch);
+        }
+
+        Set<String> titleWords = keywords == null
+                ? Collections.emptySet()
+                : keywords.stream()
+                        .filter(keyword -> !keyword.isEmpty())
+                        .map(ActivitySearchIndex::toIndexedTitleWord)
+                        .collect(Collectors.toSet());
+        Set<String> indexedTagNames = tagNames == null
+                ? Collections.emptySet()
+                : tagNames.stream().map(ActivitySearchIndex::toIndexedTagName).collect(Collectors.toSet());
+        FilteredList<Activity> filtered = getFilteredList(panel);
+        if (titleWords.isEmpty() && indexedTagNames.isEmpty()) {
+            filtered.setPredicate(null);
+            return;
+        }
+
+        ActivitySearchIndex.Search search = searchIndex.startSearch(titleWords, indexedTagNames);
+        panelSearches.put(panel, search);
+        filtered.setPredicate(search::matches);
+    }
+
+    private FilteredList<Activity> getFilteredList(Activity.PanelType panel) {
+        switch (panel) {
+            case SCHEDULE: {
+                return filteredSchedules;
+            }
+            case DEADLINE: {
+                return filteredDeadlines;
+            }
+            case FLOATING: {
+                return filteredFloatings;
+            }
+            default:
+                throw new AssertionError("No such panel.");
+        }
+    }
+
     @Override
     public UnmodifiableObservableList<Activity> getSortedScheduleList() {
-        return new UnmodifiableObservableList<>(sortedSchedules);
+        return new UnmodifiableObservableList<>(filteredSchedules);
     }
 
     @Override
     public UnmodifiableObservableList<Activity> getSortedDeadlineList() {
-        return new UnmodifiableObservableList<>(sortedDeadlines);
+        return new UnmodifiableObservableList<>(filteredDeadlines);
     }
 
     @Override
     public UnmodifiableObservableList<Activity> getSortedFloatingList() {
-        return new UnmodifiableObservableList<>(sortedFloatings);
+        return new UnmodifiableObservableList<>(filteredFloatings);
     }
     
     @Override
     public ArrayList<Tag> getTagList() {
-        ArrayList<Tag> tagList = new ArrayList<Tag>();
-        for (Activity activity : activities) {
-            UniqueTagList tags = activity.getTags();
-            for (Tag tag : tags) {
-                if (!tagList.contains(tag)) {
-                    tagList.add(tag);
-                }
-            }
-        }
-        return tagList;
-    }
-
-    //========== Inner classes/interfaces used for filtering ==================================================
-
-    interface Expression {
-        boolean satisfies(Activity task);
-
-        String toString();
+        return new ArrayList<>(tagRegistry.getTags());
     }
 
-    private static class PredicateExpression implements Expression {
-
-        private final Qualifier qualifier;
-
-        PredicateExpression(Qualifier qualifier) {
-            this.qualifier = qualifier;
-        }
-
-        @Override
-        public boolean satisfies(Activity activity) {
-            return qualifier.run(activity);
-        }
-
-        @Override
-        public String toString() {
-            return qualifier.toString();
-        }
-        
+    @Override
+    public Map<Tag, Integer> getTagUsageCounts() {
+        return tagRegistry.getUsageCounts();
     }
 
-    interface Qualifier {
-        boolean run(Activity activity);
-
-        String toString();
+    @Override
+    public List<Activity> getActivitiesScheduledBetween(long startEpochSecond, long endEpochSecond) {
+        return timeIndex.getScheduledBetween(startEpochSecond, endEpochSecond);
     }
 
-    private static class ActivityQualifier implements Qualifier {        
-        private Set<String> titleKeyWords;
-        private Set<String> tagNames;
-        private Activity.PanelType panelType;
-
-        ActivityQualifier(Activity.PanelType panel, Set<String> titleKeyWords, Set<String> tagNames) {
-            this.panelType = panel;
-            this.titleKeyWords = titleKeyWords;
-            this.tagNames = tagNames;
-        }
-
-        @Override
-        public boolean run(@Nonnull Activity activity) {
-            boolean noTitleKeyWords = titleKeyWords == null
-                                      || titleKeyWords.isEmpty()
-                                      || (titleKeyWords.size() == 1 && titleKeyWords.contains(""));
-            boolean noTags = tagNames == null
-                             || tagNames.isEmpty();
-
-            // (no keyword || contain a keyword) && (no tag || contain a tag))
-            return isCorrectActivityType(activity)
-                   &&(noTitleKeyWords || containKeyWordsInTitle(titleKeyWords, activity))
-                   && (noTags || containsTags(tagNames, activity));
-        }
-        
-        private boolean isCorrectActivityType(Activity activity) {
-            if (panelType == null) {
-                throw new AssertionError("No such panel.", null);
-            } else {
-                switch(panelType) {
-                    case SCHEDULE: {
-                        return activity.getSchedule().isPresent();
-                    }
-                    case DEADLINE: {
-                        return activity.getType() == Activity.ActivityType.TASK
-                               && activity.getDeadline().isPresent();
-                    }
-                    case FLOATING: {
-                        return activity.getType() == Activity.ActivityType.TASK
-                               && !activity.getDeadline().isPresent();
-                    }
-                    default: {
-                        throw new AssertionError("No such panel.", null);
-                    }
-                }
-            }
-        }
-
-        private boolean containKeyWordsInTitle(@Nonnull Set<String> titleKeyWords, Activity activity) {
-            return titleKeyWords.stream()
-                    .filter(keyword -> StringUtil.containsIgnoreCase(activity.getTitle().title, keyword))
-                    .findAny()
-                    .isPresent();
-        }
-
-        private boolean containsTags(@Nonnull Set<String> tagNames, Activity activity) {
-            return tagNames.stream()
-                    .filter(tagName -> {
-                        try {
-                            return activity.getTags().contains(new Tag(tagName));
-                        } catch (IllegalValueException e) {
-                            //ignore incorrect tag name format
-                            return false;
-                        }})
-                    .findAny()
-                    .isPresent();
-        }
-
-        @Override
-        public String toString() {
-            return "title=" + String.join(", ", titleKeyWords);
-        }
-    }
-    
-    //@@author A0140136W
-    /*
-     * Predicate to filter activities with schedules.
-     */
-    private static class SchedulePredicate implements Predicate<Activity> {
-        @Override
-        public boolean test(Activity t) {
-            return t.getSchedule().isPresent();
-        }     
-    }
-    
-    /*
-     * Predicate to filter tasks with deadlines.
-     */
-    private static class DeadlinePredicate implements Predicate<Activity> {
-        @Override
-        public boolean test(Activity t) {
-            return t.getType() == Activity.ActivityType.TASK
-                   && t.getDeadline().isPresent();
-        } 
-    }
-    
-    /*
-     * Predicate to filter tasks without deadlines.
-     */
-    private static class FloatingPredicate implements Predicate<Activity> {
-        @Override
-        public boolean test(Activity t) {
-            return t.getType() == Activity.ActivityType.TASK
-                   && !t.getDeadline().isPresent();
-        }   
-    }
-    
-    /*
-     * Comparator to sort schedules by start time.
-     */
-    private static class ScheduleComparator implements Comparator<Activity> {
-        @Override
-        public int compare(Activity activity1, Activity activity2) {
-            Optional<Schedule> schedule1 = activity1.getSchedule();
-            Optional<Schedule> schedule2 = activity2.getSchedule();
-            if (!schedule1.isPresent() || !schedule2.isPresent()) {
-                throw new AssertionError("There are activities in the schedules table that have no schedules!", null);
-            }
-            Long start1 = schedule1.get().startEpochSecond;
-            Long start2 = schedule2.get().startEpochSecond;
-            return start1.compareTo(start2);
-        } 
-    }
-    
-    /*
-     * Comparator to sort deadline by deadline.
-     */
-    private static class DeadlineComparator implements Comparator<Activity> {
-        @Override
-        public int compare(Activity activity1, Activity activity2) {
-            Optional<Deadline> deadline1 = activity1.getDeadline();
-            Optional<Deadline> deadline2 = activity2.getDeadline();
-            if (!deadline1.isPresent() || !deadline2.isPresent()) {
-                throw new AssertionError("There are activities in the deadlines table that have no deadlines!", null);
-            }
-            Long due1 = deadline1.get().epochSecond;
-            Long due2 = deadline2.get().epochSecond;
-            return due1.compareTo(due2);
-        } 
+    @Override
+    public List<Activity> getActivitiesDueBetween(long startEpochSecond, long endEpochSecond) {
+        return timeIndex.getDueBetween(startEpochSecond, endEpochSecond);
     }
 
 }
@@ -0,0 +1,57 @@
+package seedu.taskman.model;
+
+import javafx.collections.ObservableList;
+import seedu.taskman.model.event.Activity;
+import seedu.taskman.model.event.ActivityListObserver;
+import seedu.taskman.model.tag.Tag;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reference counted registry of the tags used by the activities in a list.
+ * Tags are kept in the order they were first used, and are dropped once no activity uses them.
+ * <p>
+ * The registry follows every change made to the list it is built on, so the tags in use
+ * are known without going through all activities.
+ */
+class TagRegistry {
+
+    private final Map<Tag, Integer> usageCounts = new LinkedHashMap<>();
+
+    TagRegistry(ObservableList<Activity> activities) {
+        activities.forEach(this::register);
+        activities.addListener(new ActivityListObserver(
+                removed -> removed.forEach(this::unregister), added -> added.forEach(this::register)));
+    }
+
+    private void register(Activity activity) {
+        for (Tag tag : activity.getTags()) {
+            usageCounts.merge(tag, 1, Integer::sum);
+        }
+    }
+
+    private void unregister(Activity activity) {
+        for (Tag tag : activity.getTags()) {
+            // a count reaching zero removes the tag
+            usageCounts.computeIfPresent(tag, (unused, count) -> count > 1 ? count - 1 : null);
+        }
+    }
+
+    /**
+     * Returns the tags in use, in the order they were first used.
+     */
+    List<Tag> getTags() {
+        return new ArrayList<>(usageCounts.keySet());
+    }
+
+    /**
+     * Returns the number of activities using each tag in use.
+     */
+    Map<Tag, Integer> getUsageCounts() {
+        return Collections.unmodifiableMap(usageCounts);
+    }
+}
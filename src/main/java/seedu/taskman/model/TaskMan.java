@@ -3,12 +3,17 @@ package seedu.taskman.model;
 import javafx.collections.ObservableList;
 import seedu.taskman.model.event.Activity;
 import seedu.taskman.model.event.Event;
+import seedu.taskman.model.event.Title;
 import seedu.taskman.model.event.UniqueActivityList;
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -30,7 +35,7 @@ public class TaskMan implements ReadOnlyTaskMan {
      * Tasks and Tags are copied into this taskMan
      */
     public TaskMan(ReadOnlyTaskMan toBeCopied) {
-        this(toBeCopied.getUniqueActivityList());
+        resetData(toBeCopied.getActivityList());
     }
 
     /**
@@ -52,8 +57,42 @@ public class TaskMan implements ReadOnlyTaskMan {
         this.activities.getInternalList().setAll(activities);
     }
 
+    /**
+     * Replaces the activities with copies of the given activities.
+     * <p>
+     * Only the activities which differ are removed, replaced or added, so views over the list only
+     * re-evaluate what changed. Activities which are kept stay where they are and new activities are
+     * added at the end, which is fine as the order of activities does not matter to TaskMan.
+     */
     public void resetData(Collection<? extends Activity> newActivities) {
-        setActivities(newActivities.stream().map(Activity::new).collect(Collectors.toList()));
+        ObservableList<Activity> current = activities.getInternalList();
+        Map<Title, Activity> targetByTitle = indexByTitle(newActivities);
+        if (current.isEmpty() || targetByTitle == null || indexByTitle(current) == null) {
+            setActivities(newActivities.stream().map(Activity::new).collect(Collectors.toList()));
+            return;
+        }
+
+        Set<Activity> toRemove = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Activity activity : current) {
+            if (!targetByTitle.containsKey(activity.getTitle())) {
+                toRemove.add(activity);
+            }
+        }
+        if (!toRemove.isEmpty()) {
+            current.removeAll(toRemove);
+        }
+
+        for (int i = 0; i < current.size(); i++) {
+            Activity activity = current.get(i);
+            Activity target = targetByTitle.remove(activity.getTitle());
+            if (!activity.hasSameDetailsAs(target)) {
+                current.set(i, new Activity(target));
+            }
+        }
+
+        if (!targetByTitle.isEmpty()) {
+            current.addAll(targetByTitle.values().stream().map(Activity::new).collect(Collectors.toList()));
+        }
     }
 
     public void resetData(ReadOnlyTaskMan newData) {
@@ -84,6 +123,20 @@ public class TaskMan implements ReadOnlyTaskMan {
 
     //// util methods
 
+    /**
+     * Returns the activities keyed by title in their original order,
+     * or null if two of the activities share a title and cannot be told apart by key.
+     */
+    private static Map<Title, Activity> indexByTitle(Collection<? extends Activity> activities) {
+        Map<Title, Activity> index = new LinkedHashMap<>(activities.size() * 2);
+        for (Activity activity : activities) {
+            if (index.put(activity.getTitle(), activity) != null) {
+                return null;
+            }
+        }
+        return index;
+    }
+
     @Override
     public String toString() {
         return activities.getInternalList().size() + " activities";
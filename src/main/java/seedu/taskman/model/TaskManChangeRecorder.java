@@ -0,0 +1,82 @@
+package seedu.taskman.model;
+
+import javafx.collections.ListChangeListener;
+import seedu.taskman.model.event.Activity;
+import seedu.taskman.model.event.ActivityListObserver;
+import seedu.taskman.model.event.Title;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Collects the changes made to the activity list of a TaskMan into a {@link TaskManChangeSet}.
+ * Collecting and building the change set take time proportional to the number of changed activities.
+ */
+class TaskManChangeRecorder {
+
+    private final List<Activity> removed = new ArrayList<>();
+    private final List<Activity> added = new ArrayList<>();
+    private final ActivityListObserver observer = new ActivityListObserver(removed::addAll, added::addAll);
+
+    /**
+     * Records the activities removed and added by all sub-changes of the given change.
+     * Permutations and updates do not change which activities are in the list, so they are ignored.
+     */
+    void record(ListChangeListener.Change<? extends Activity> change) {
+        observer.onChanged(change);
+    }
+
+    void clear() {
+        removed.clear();
+        added.clear();
+    }
+
+    /**
+     * Returns the changes recorded since the last call, or since the last {@link #clear()}, and starts afresh.
+     * Activities which were removed and added back, as when they are moved, are not part of the change set.
+     */
+    TaskManChangeSet takeChangeSet() {
+        Map<Activity, Integer> netAdditions = new IdentityHashMap<>();
+        for (Activity activity : added) {
+            netAdditions.merge(activity, 1, Integer::sum);
+        }
+        for (Activity activity : removed) {
+            netAdditions.merge(activity, -1, Integer::sum);
+        }
+
+        // only one removed activity per title can be replaced
+        Map<Title, Activity> removedByTitle = new LinkedHashMap<>();
+        List<Activity> changeSetRemoved = new ArrayList<>();
+        for (Activity activity : removed) {
+            if (netAdditions.getOrDefault(activity, 0) < 0) {
+                netAdditions.remove(activity);
+                if (removedByTitle.putIfAbsent(activity.getTitle(), activity) != null) {
+                    changeSetRemoved.add(activity);
+                }
+            }
+        }
+
+        List<Activity> changeSetAdded = new ArrayList<>();
+        List<TaskManChangeSet.Replacement> changeSetReplaced = new ArrayList<>();
+        for (Activity activity : added) {
+            if (netAdditions.getOrDefault(activity, 0) <= 0) {
+                continue;
+            }
+            netAdditions.remove(activity);
+            Activity previous = removedByTitle.remove(activity.getTitle());
+            if (previous == null) {
+                changeSetAdded.add(activity);
+            } else {
+                changeSetReplaced.add(new TaskManChangeSet.Replacement(previous, activity));
+            }
+        }
+
+        changeSetRemoved.addAll(removedByTitle.values());
+        TaskManChangeSet changeSet = new TaskManChangeSet(changeSetAdded, changeSetRemoved, changeSetReplaced);
+        clear();
+        return changeSet;
+    }
+}
@@ -0,0 +1,59 @@
+package seedu.taskman.model;
+
+import seedu.taskman.model.event.Activity;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The activities added, removed and replaced by a change to the TaskMan data.
+ * An activity is replaced when an activity with the same title takes its place, as when it is edited.
+ * <p>
+ * The change set does not change once created, so it can be read on any thread.
+ */
+public class TaskManChangeSet {
+
+    /**
+     * An activity which took the place of another activity with the same title
+     */
+    public static class Replacement {
+        public final Activity previous;
+        public final Activity current;
+
+        public Replacement(Activity previous, Activity current) {
+            this.previous = previous;
+            this.current = current;
+        }
+    }
+
+    private final List<Activity> added;
+    private final List<Activity> removed;
+    private final List<Replacement> replaced;
+
+    public TaskManChangeSet(List<Activity> added, List<Activity> removed, List<Replacement> replaced) {
+        this.added = Collections.unmodifiableList(added);
+        this.removed = Collections.unmodifiableList(removed);
+        this.replaced = Collections.unmodifiableList(replaced);
+    }
+
+    public List<Activity> getAdded() {
+        return added;
+    }
+
+    public List<Activity> getRemoved() {
+        return removed;
+    }
+
+    public List<Replacement> getReplaced() {
+        return replaced;
+    }
+
+    public boolean isEmpty() {
+        return added.isEmpty() && removed.isEmpty() && replaced.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return added.size() + " added, " + removed.size() + " removed, " + replaced.size() + " replaced";
+    }
+}
@@ -0,0 +1,78 @@
+package seedu.taskman.model;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.taskman.model.event.Activity;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Reversible record of the changes made to the activity list of a TaskMan.
+ * <p>
+ * Each change keeps the activities it removed and the number of activities it inserted in their place,
+ * so reverting costs time proportional to the number of changed activities rather than the size of the data.
+ */
+public class TaskManDelta {
+
+    /**
+     * Replacement of {@code addedSize} activities starting at {@code from} for the {@code removed} activities.
+     */
+    private static class Replacement {
+        private final int from;
+        private final List<Activity> removed;
+        private final int addedSize;
+
+        Replacement(int from, List<Activity> removed, int addedSize) {
+            this.from = from;
+            this.removed = removed;
+            this.addedSize = addedSize;
+        }
+    }
+
+    private final List<Replacement> replacements = new ArrayList<>();
+
+    /**
+     * Records all sub-changes of the given change, in the order they were applied.
+     */
+    void record(ListChangeListener.Change<? extends Activity> change) {
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                recordPermutation(change);
+            } else if (!change.wasUpdated()) {
+                replacements.add(new Replacement(change.getFrom(),
+                        new ArrayList<>(change.getRemoved()), change.getAddedSize()));
+            }
+        }
+    }
+
+    /**
+     * A permutation is recorded as the replacement of the permuted range by the activities in their old order.
+     */
+    private void recordPermutation(ListChangeListener.Change<? extends Activity> change) {
+        List<? extends Activity> list = change.getList();
+        List<Activity> oldOrder = new ArrayList<>(change.getTo() - change.getFrom());
+        for (int oldIndex = change.getFrom(); oldIndex < change.getTo(); oldIndex++) {
+            oldOrder.add(list.get(change.getPermutation(oldIndex)));
+        }
+        replacements.add(new Replacement(change.getFrom(), oldOrder, oldOrder.size()));
+    }
+
+    public boolean isEmpty() {
+        return replacements.isEmpty();
+    }
+
+    /**
+     * Undoes the recorded changes on the given list.
+     * The list must be in the state the recorded changes left it in.
+     */
+    void revert(ObservableList<Activity> activities) {
+        List<Replacement> latestFirst = new ArrayList<>(replacements);
+        Collections.reverse(latestFirst);
+        for (Replacement replacement : latestFirst) {
+            activities.remove(replacement.from, replacement.from + replacement.addedSize);
+            activities.addAll(replacement.from, replacement.removed);
+        }
+    }
+}
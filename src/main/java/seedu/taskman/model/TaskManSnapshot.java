@@ -0,0 +1,120 @@
+package seedu.taskman.model;
+
+import seedu.taskman.model.event.Activity;
+import seedu.taskman.model.event.Title;
+import seedu.taskman.model.event.UniqueActivityList;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An unmodifiable copy of the activities of a TaskMan as they were when it was taken.
+ * <p>
+ * A snapshot is either a copy of the activity list, or an earlier snapshot with a change set applied.
+ * The changes are only applied once the activities are asked for, so taking a snapshot after a change
+ * costs time proportional to the change. Once as many changes as there are activities have piled up,
+ * the list is copied again, so working out the activities never costs more than a copy of the list.
+ * <p>
+ * Only the list is copied, as activities do not change once created, so a snapshot is safe to read from any thread.
+ */
+public class TaskManSnapshot implements ReadOnlyTaskMan {
+
+    /** Changes are always applied lazily while there are fewer than this many of them */
+    static final int MIN_LAZY_CHANGES = 64;
+
+    // Number of change sets applied on top of the last copy of the list
+    private final int changeCount;
+
+    // Null once the activities are known. Guarded by this
+    private TaskManSnapshot previous;
+    private TaskManChangeSet changes;
+    // Null until the activities are known. Guarded by this
+    private List<Activity> activities;
+
+    public TaskManSnapshot(ReadOnlyTaskMan data) {
+        activities = Collections.unmodifiableList(new ArrayList<>(data.getActivityList()));
+        changeCount = 0;
+    }
+
+    private TaskManSnapshot(TaskManSnapshot previous, TaskManChangeSet changes) {
+        this.previous = previous;
+        this.changes = changes;
+        changeCount = previous.changeCount + 1;
+    }
+
+    /**
+     * Returns a snapshot of {@code current}, which is the data of this snapshot with the given changes made.
+     */
+    public TaskManSnapshot withChanges(TaskManChangeSet changes, ReadOnlyTaskMan current) {
+        if (changes.isEmpty()) {
+            return this;
+        }
+        if (changeCount >= Math.max(MIN_LAZY_CHANGES, current.getActivityList().size())) {
+            return new TaskManSnapshot(current);
+        }
+        return new TaskManSnapshot(this, changes);
+    }
+
+    /**
+     * Builds a new list of the activities each time, as a snapshot keeps no index of its own
+     */
+    @Override
+    public UniqueActivityList getUniqueActivityList() {
+        UniqueActivityList list = new UniqueActivityList();
+        list.getInternalList().setAll(getActivityList());
+        return list;
+    }
+
+    /**
+     * Applies the changes this snapshot was taken with, if they have not been applied yet.
+     * Like the journal, activities which were replaced or added are moved to the end.
+     */
+    @Override
+    public List<Activity> getActivityList() {
+        List<TaskManChangeSet> toApply = new ArrayList<>();
+        List<Activity> base = null;
+        TaskManSnapshot snapshot = this;
+        while (base == null) {
+            synchronized (snapshot) {
+                if (snapshot.activities != null) {
+                    base = snapshot.activities;
+                } else {
+                    toApply.add(snapshot.changes);
+                    snapshot = snapshot.previous;
+                }
+            }
+        }
+        if (toApply.isEmpty()) {
+            return base;
+        }
+
+        Map<Title, Activity> byTitle = new LinkedHashMap<>(base.size() * 2);
+        base.forEach(activity -> byTitle.put(activity.getTitle(), activity));
+        Collections.reverse(toApply);
+        for (TaskManChangeSet change : toApply) {
+            change.getRemoved().forEach(activity -> byTitle.remove(activity.getTitle()));
+            for (TaskManChangeSet.Replacement replacement : change.getReplaced()) {
+                byTitle.remove(replacement.current.getTitle());
+                byTitle.put(replacement.current.getTitle(), replacement.current);
+            }
+            change.getAdded().forEach(activity -> byTitle.put(activity.getTitle(), activity));
+        }
+
+        synchronized (this) {
+            if (activities == null) {
+                activities = Collections.unmodifiableList(new ArrayList<>(byTitle.values()));
+                previous = null;
+                changes = null;
+            }
+            return activities;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "snapshot after " + changeCount + " changes to a copy of the activities";
+    }
+}
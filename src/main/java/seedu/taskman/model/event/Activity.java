@@ -7,8 +7,12 @@ import java.util.Optional;
 
 /**
  * Wrapper for both Event and Task
+ * <p>
+ * An activity does not change once created; it is changed by replacing it with a new activity.
+ * TaskMan, its indexes, the undo history, change events and storage rely on this to share activities
+ * instead of copying them, so the event or task given to the constructor must not be changed afterwards.
  */
-public class Activity implements ReadOnlyEvent, MutableTagsEvent {
+public class Activity implements ReadOnlyEvent {
 
     private static final String DEADLINE_STRING = "d";
     private static final String SCHEDULE_STRING = "s";
@@ -22,7 +26,7 @@ public class Activity implements ReadOnlyEvent, MutableTagsEvent {
 
     public enum ActivityType {EVENT, TASK}
 
-    private MutableTagsEvent activity;
+    private ReadOnlyEvent activity;
     private ActivityType type;
 
     public Activity(Event event) {
@@ -113,11 +117,6 @@ public class Activity implements ReadOnlyEvent, MutableTagsEvent {
         return activity.getSchedule();
     }
 
-    @Override
-    public void setTags(UniqueTagList replacement) {
-        activity.setTags(replacement);
-    }
-
     @Override
     public UniqueTagList getTags() {
         return activity.getTags();
@@ -144,6 +143,15 @@ public class Activity implements ReadOnlyEvent, MutableTagsEvent {
         }
     }
 
+    /**
+     * Returns true if both have the same state and the same tags.
+     * Equality ignores tags, so this tells whether a copy of an activity still has all of its details.
+     */
+    public boolean hasSameDetailsAs(Activity other) {
+        return other == this
+                || (this.equals(other) && getTags().equals(other.getTags()));
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
@@ -206,23 +214,6 @@ public class Activity implements ReadOnlyEvent, MutableTagsEvent {
             }
         }
 
-        /**
-         * Returns the String which will compile into a Pattern that can differentiate the different panel types, excluding the ALL type
-         */
-        public static String getPatternString() {
-            StringBuilder builder = new StringBuilder();
-            for (PanelType panelType : PanelType.values()) {
-                //skip if panelType is ALL
-                if (!panelType.equals(ALL)) {
-                    if (builder.length() != 0) {
-                        builder.append('|');
-                    }
-                    builder.append("(" + panelType.getString() + ")");
-                }
-            }
-            return builder.toString();
-        }
-
         public String getName() {
             return name;
         }
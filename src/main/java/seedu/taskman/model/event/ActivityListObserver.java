@@ -0,0 +1,39 @@
+package seedu.taskman.model.event;
+
+import javafx.collections.ListChangeListener;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Follows which activities are added to and removed from an observable list of activities.
+ * <p>
+ * Each sub-change is passed on as the activities it removed, then the activities it added.
+ * Permutations and updates do not change which activities are in the list, so they are ignored.
+ */
+public class ActivityListObserver implements ListChangeListener<Activity> {
+
+    private final Consumer<List<? extends Activity>> onRemoved;
+    private final Consumer<List<? extends Activity>> onAdded;
+
+    public ActivityListObserver(Consumer<List<? extends Activity>> onRemoved,
+                                Consumer<List<? extends Activity>> onAdded) {
+        this.onRemoved = onRemoved;
+        this.onAdded = onAdded;
+    }
+
+    @Override
+    public void onChanged(Change<? extends Activity> change) {
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                continue;
+            }
+            if (change.wasRemoved()) {
+                onRemoved.accept(change.getRemoved());
+            }
+            if (change.wasAdded()) {
+                onAdded.accept(change.getAddedSubList());
+            }
+        }
+    }
+}
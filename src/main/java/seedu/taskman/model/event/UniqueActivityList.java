@@ -12,6 +12,10 @@ import java.util.*;
  * Also ignores order of elements when checking for equality
  * <p>
  * Supports a minimal set of list operations.
+ * <p>
+ * Activities are indexed by title alongside the observable list, so duplicate and membership checks
+ * do not scan the list. The index follows every change made to the internal list, including changes
+ * made through {@link #getInternalList()}.
  *
  * @see Activity#equals(Object)
  * @see CollectionUtil#elementsAreUnique(Collection)
@@ -36,10 +40,17 @@ public class UniqueActivityList implements Iterable<Activity> {
 
     private final ObservableList<Activity> internalList = FXCollections.observableArrayList();
 
+    // Equivalent activities always share a title, so the title index also serves as the identity index
+    private final Map<Title, Activity> titleIndex = new HashMap<>();
+
     /**
      * Constructs empty TaskList.
      */
     public UniqueActivityList() {
+        // keeps the title index in sync with additions, removals and replacements in the internal list
+        internalList.addListener(new ActivityListObserver(
+                removed -> removed.forEach(activity -> titleIndex.remove(activity.getTitle(), activity)),
+                added -> added.forEach(activity -> titleIndex.put(activity.getTitle(), activity))));
     }
 
     /**
@@ -48,7 +59,8 @@ public class UniqueActivityList implements Iterable<Activity> {
      */
     public boolean contains(Activity toCheck) {
         assert toCheck != null;
-        return internalList.contains(toCheck);
+        Activity indexed = titleIndex.get(toCheck.getTitle());
+        return indexed != null && indexed.equals(toCheck);
     }
     
     /**
@@ -56,12 +68,7 @@ public class UniqueActivityList implements Iterable<Activity> {
      */
     public boolean contains(Title toCheck) {
         assert toCheck != null;
-        for(Activity a : internalList.toArray(new Activity[0])) {
-            if (a.getTitle().equals(toCheck)) {
-                return true;
-            }
-        }
-        return false;
+        return titleIndex.containsKey(toCheck);
     }
 
     /**
@@ -84,11 +91,10 @@ public class UniqueActivityList implements Iterable<Activity> {
      */
     public boolean remove(Activity toRemove) throws ActivityNotFoundException {
         assert toRemove != null;
-        final boolean activityFoundAndDeleted = internalList.remove(toRemove);
-        if (!activityFoundAndDeleted) {
+        if (!contains(toRemove)) {
             throw new ActivityNotFoundException();
         }
-        return activityFoundAndDeleted;
+        return internalList.remove(titleIndex.get(toRemove.getTitle()));
     }
 
     public ObservableList<Activity> getInternalList() {
@@ -0,0 +1,128 @@
+package seedu.taskman.storage;
+
+import seedu.taskman.commons.core.LogsCenter;
+import seedu.taskman.commons.exceptions.IllegalValueException;
+import seedu.taskman.model.event.Activity;
+import seedu.taskman.model.event.Title;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Turns saved activities into a TaskMan in a single pass.
+ * <p>
+ * The saved activities are converted in parallel on the common fork-join pool, then checked for duplicates
+ * by title with a hash map and handed to the TaskMan as one list, in the order they were saved.
+ * Saved activities which are read one at a time can be converted in chunks as they arrive,
+ * so only a chunk of them is held in memory at once.
+ */
+public class ActivityLoadPipeline {
+
+    /** Fewer saved activities than this are converted on the calling thread, where splitting costs more */
+    public static final int PARALLEL_THRESHOLD = 256;
+
+    /** Number of saved activities held before they are converted, when they are read one at a time */
+    public static final int CHUNK_SIZE = PARALLEL_THRESHOLD * 4;
+
+    private static final Logger logger = LogsCenter.getLogger(ActivityLoadPipeline.class);
+
+    /**
+     * Converts a saved activity into the model's Activity object
+     */
+    @FunctionalInterface
+    public interface Converter<T> {
+        Activity convert(T saved) throws IllegalValueException;
+    }
+
+    /**
+     * Returns the activities which could be converted, with at most one activity per title.
+     * Activities which cannot be converted are skipped, and of the activities sharing a title
+     * only the first one saved is kept.
+     */
+    public static <T> List<Activity> convert(List<T> savedActivities, Converter<? super T> converter) {
+        return withoutDuplicates(convertAll(savedActivities, converter));
+    }
+
+    /**
+     * Returns the activities with only the first one of each title kept, in their original order
+     */
+    public static List<Activity> withoutDuplicates(List<Activity> converted) {
+        List<Activity> activities = new ArrayList<>(converted.size());
+        Map<Title, Activity> titleIndex = new HashMap<>(converted.size() * 2);
+        for (Activity activity : converted) {
+            if (titleIndex.putIfAbsent(activity.getTitle(), activity) != null) {
+                logger.info(LogsCenter.getConversionFailedMessage(activity.toString()));
+                continue;
+            }
+            activities.add(activity);
+        }
+        return activities;
+    }
+
+    /**
+     * Returns the activities which could be converted, in the order they were saved, duplicates included
+     */
+    static <T> List<Activity> convertAll(List<T> savedActivities, Converter<? super T> converter) {
+        Stream<T> saved = savedActivities.size() < PARALLEL_THRESHOLD
+                ? savedActivities.stream()
+                : savedActivities.parallelStream();
+        return saved
+                .map(savedActivity -> convertOrSkip(savedActivity, converter))
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Returns null if the saved activity cannot be converted
+     */
+    private static <T> Activity convertOrSkip(T savedActivity, Converter<? super T> converter) {
+        try {
+            return converter.convert(savedActivity);
+        } catch (IllegalValueException e) {
+            logger.info(LogsCenter.getConversionFailedMessage(savedActivity.toString()));
+            return null;
+        }
+    }
+
+    /**
+     * Converts saved activities of one type as they are read, a chunk at a time.
+     * Activities which cannot be converted are skipped.
+     */
+    public static class ChunkedConverter<T> implements Consumer<T> {
+        private final Converter<? super T> converter;
+        private final List<T> chunk = new ArrayList<>(CHUNK_SIZE);
+        private final List<Activity> converted = new ArrayList<>();
+
+        public ChunkedConverter(Converter<? super T> converter) {
+            this.converter = converter;
+        }
+
+        @Override
+        public void accept(T savedActivity) {
+            chunk.add(savedActivity);
+            if (chunk.size() == CHUNK_SIZE) {
+                convertChunk();
+            }
+        }
+
+        /**
+         * Returns the activities converted so far, in the order they were read
+         */
+        public List<Activity> getConverted() {
+            convertChunk();
+            return converted;
+        }
+
+        private void convertChunk() {
+            converted.addAll(convertAll(chunk, converter));
+            chunk.clear();
+        }
+    }
+}
@@ -0,0 +1,364 @@
+package seedu.taskman.storage;
+
+import seedu.taskman.commons.core.LogsCenter;
+import seedu.taskman.commons.exceptions.DataConversionException;
+import seedu.taskman.commons.exceptions.IllegalValueException;
+import seedu.taskman.commons.util.FileUtil;
+import seedu.taskman.model.ReadOnlyTaskMan;
+import seedu.taskman.model.TaskMan;
+import seedu.taskman.model.event.Activity;
+import seedu.taskman.model.event.Deadline;
+import seedu.taskman.model.event.Event;
+import seedu.taskman.model.event.Schedule;
+import seedu.taskman.model.event.Status;
+import seedu.taskman.model.event.Task;
+import seedu.taskman.model.event.Title;
+import seedu.taskman.model.event.UniqueActivityList;
+import seedu.taskman.model.tag.Tag;
+import seedu.taskman.model.tag.UniqueTagList;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+/**
+ * A class to access TaskMan data stored as a compact binary snapshot on the hard disk.
+ * <p>
+ * The file starts with a magic number and a format version, followed by a table of every distinct title
+ * and tag name, and then the activities. An activity refers to its title and tags by their index in the
+ * table as varints, and keeps its dates as fixed-width epoch seconds. The file is read through a
+ * memory-mapped buffer, straight into model objects.
+ * <p>
+ * A file in the xml format is imported when read, and replaced by a binary snapshot on the next save.
+ * See {@link #importFromXml(String, String)} and {@link #exportToXml(String, String)} to convert files.
+ */
+public class BinaryTaskManStorage implements TaskManStorage {
+
+    public static final int MAGIC = 0x544D414E; // "TMAN"
+    public static final int FORMAT_VERSION = 1;
+
+    private static final int FLAG_TASK = 1;
+    private static final int FLAG_COMPLETED = 1 << 1;
+    private static final int FLAG_DEADLINE = 1 << 2;
+    private static final int FLAG_SCHEDULE = 1 << 3;
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryTaskManStorage.class);
+
+    private String filePath;
+
+    public BinaryTaskManStorage(String filePath) {
+        this.filePath = filePath;
+    }
+
+    @Override
+    public String getTaskManFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public void setTaskManFilePath(String filePath) {
+        this.filePath = filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyTaskMan> readTaskMan() throws DataConversionException, IOException {
+        return readTaskMan(filePath);
+    }
+
+    /**
+     * Similar to {@link #readTaskMan()}
+     *
+     * @param filePath location of the data. Cannot be null
+     * @throws DataConversionException if the file is neither a valid binary snapshot nor a valid xml file.
+     */
+    @Override
+    public Optional<ReadOnlyTaskMan> readTaskMan(String filePath) throws DataConversionException, IOException {
+        assert filePath != null;
+
+        File taskManFile = new File(filePath);
+
+        if (!taskManFile.exists()) {
+            logger.info("TaskMan file " + taskManFile + " not found");
+            return Optional.empty();
+        }
+
+        try (FileChannel channel = FileChannel.open(taskManFile.toPath(), StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            try {
+                if (buffer.remaining() < Integer.BYTES || buffer.getInt(0) != MAGIC) {
+                    logger.info("TaskMan file " + taskManFile + " is not a binary snapshot, importing it as xml");
+                    return Optional.of(XmlFileStorage.loadTaskManFromSaveFile(taskManFile));
+                }
+                return Optional.of(readSnapshot(buffer));
+            } finally {
+                unmap(buffer);
+            }
+        }
+    }
+
+    /**
+     * Releases the mapping right away where the JVM allows it, instead of when the buffer is collected.
+     * Some platforms do not allow a mapped file to be replaced, which the next save does.
+     */
+    private static void unmap(MappedByteBuffer buffer) {
+        try {
+            Method cleanerMethod = buffer.getClass().getMethod("cleaner");
+            cleanerMethod.setAccessible(true);
+            Object cleaner = cleanerMethod.invoke(buffer);
+            if (cleaner != null) {
+                cleaner.getClass().getMethod("clean").invoke(cleaner);
+            }
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            logger.fine("Mapped TaskMan file is released when collected: " + e);
+        }
+    }
+
+    @Override
+    public void saveTaskMan(ReadOnlyTaskMan taskMan) throws IOException {
+        saveTaskMan(taskMan, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveTaskMan(ReadOnlyTaskMan)}
+     * The snapshot is written to a temporary file which then replaces the specified file,
+     * so the file is never left partially written.
+     *
+     * @param filePath location of the data. Cannot be null
+     */
+    @Override
+    public void saveTaskMan(ReadOnlyTaskMan taskMan, String filePath) throws IOException {
+        assert taskMan != null;
+        assert filePath != null;
+
+        File file = new File(filePath);
+        FileUtil.createParentDirsOfFile(file);
+        File tempFile = File.createTempFile("." + file.getName() + "-", ".tmp",
+                file.getAbsoluteFile().getParentFile());
+        try {
+            try (FileOutputStream out = new FileOutputStream(tempFile)) {
+                out.write(toSnapshot(taskMan.getActivityList()));
+                out.getFD().sync();
+            }
+            Files.move(tempFile.toPath(), file.toPath(),
+                    StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tempFile.toPath());
+        }
+    }
+
+    /**
+     * Writes the TaskMan data in the xml file to the binary snapshot file.
+     *
+     * @throws DataConversionException if the xml file is not in the correct format.
+     */
+    public static void importFromXml(String xmlFilePath, String binaryFilePath)
+            throws DataConversionException, IOException {
+        TaskMan taskMan = XmlFileStorage.loadTaskManFromSaveFile(new File(xmlFilePath));
+        new BinaryTaskManStorage(binaryFilePath).saveTaskMan(taskMan);
+    }
+
+    /**
+     * Writes the TaskMan data in the binary snapshot file to the xml file.
+     *
+     * @throws DataConversionException if the snapshot file is not in the correct format.
+     */
+    public static void exportToXml(String binaryFilePath, String xmlFilePath)
+            throws DataConversionException, IOException {
+        Optional<ReadOnlyTaskMan> taskMan = new BinaryTaskManStorage(binaryFilePath).readTaskMan();
+        if (!taskMan.isPresent()) {
+            throw new IOException("TaskMan file " + binaryFilePath + " not found");
+        }
+        new XmlTaskManStorage(xmlFilePath).saveTaskMan(taskMan.get());
+    }
+
+    //=========== Writing ================================================================================
+
+    private static byte[] toSnapshot(List<Activity> activities) throws IOException {
+        Map<String, Integer> stringIndexes = new LinkedHashMap<>();
+        for (Activity activity : activities) {
+            stringIndexes.putIfAbsent(activity.getTitle().title, stringIndexes.size());
+            for (Tag tag : activity.getTags()) {
+                stringIndexes.putIfAbsent(tag.tagName, stringIndexes.size());
+            }
+        }
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(MAGIC);
+        out.writeInt(FORMAT_VERSION);
+
+        writeVarInt(out, stringIndexes.size());
+        for (String string : stringIndexes.keySet()) {
+            byte[] encoded = string.getBytes(StandardCharsets.UTF_8);
+            writeVarInt(out, encoded.length);
+            out.write(encoded);
+        }
+
+        writeVarInt(out, activities.size());
+        for (Activity activity : activities) {
+            writeActivity(out, activity, stringIndexes);
+        }
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+    private static void writeActivity(DataOutputStream out, Activity activity, Map<String, Integer> stringIndexes)
+            throws IOException {
+        int flags = 0;
+        if (activity.getType() == Activity.ActivityType.TASK) {
+            flags |= FLAG_TASK;
+        }
+        if (activity.getStatus().isPresent() && activity.getStatus().get().completed) {
+            flags |= FLAG_COMPLETED;
+        }
+        if (activity.getDeadline().isPresent()) {
+            flags |= FLAG_DEADLINE;
+        }
+        if (activity.getSchedule().isPresent()) {
+            flags |= FLAG_SCHEDULE;
+        }
+        out.writeByte(flags);
+        writeVarInt(out, stringIndexes.get(activity.getTitle().title));
+
+        if (activity.getDeadline().isPresent()) {
+            out.writeLong(activity.getDeadline().get().epochSecond);
+        }
+        if (activity.getSchedule().isPresent()) {
+            Schedule schedule = activity.getSchedule().get();
+            out.writeLong(schedule.startEpochSecond);
+            out.writeLong(schedule.endEpochSecond);
+        }
+
+        UniqueTagList tags = activity.getTags();
+        List<Integer> tagIndexes = new ArrayList<>();
+        for (Tag tag : tags) {
+            tagIndexes.add(stringIndexes.get(tag.tagName));
+        }
+        writeVarInt(out, tagIndexes.size());
+        for (int tagIndex : tagIndexes) {
+            writeVarInt(out, tagIndex);
+        }
+    }
+
+    /**
+     * Writes a non-negative int in groups of 7 bits, least significant first,
+     * with the high bit of each byte set if more bytes follow.
+     */
+    private static void writeVarInt(DataOutputStream out, int value) throws IOException {
+        assert value >= 0;
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    //=========== Reading ================================================================================
+
+    private static TaskMan readSnapshot(ByteBuffer buffer) throws DataConversionException {
+        try {
+            buffer.getInt(); // magic, already checked
+            int version = buffer.getInt();
+            if (version != FORMAT_VERSION) {
+                throw new IOException("Unsupported TaskMan snapshot version " + version);
+            }
+
+            String[] strings = new String[readVarInt(buffer)];
+            for (int i = 0; i < strings.length; i++) {
+                byte[] encoded = new byte[readVarInt(buffer)];
+                buffer.get(encoded);
+                strings[i] = new String(encoded, StandardCharsets.UTF_8);
+            }
+
+            UniqueActivityList activities = new UniqueActivityList();
+            int activityCount = readVarInt(buffer);
+            for (int i = 0; i < activityCount; i++) {
+                readActivity(buffer, strings, activities);
+            }
+
+            TaskMan taskMan = new TaskMan();
+            taskMan.setActivities(activities.getInternalList());
+            return taskMan;
+        } catch (IOException e) {
+            throw new DataConversionException(e);
+        } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+            throw new DataConversionException(new IOException("TaskMan snapshot is truncated or corrupt", e));
+        }
+    }
+
+    /**
+     * Reads the next activity and adds it to the list.
+     * Activities which cannot be converted are skipped, as in {@link XmlSerializableTaskMan}.
+     */
+    private static void readActivity(ByteBuffer buffer, String[] strings, UniqueActivityList activities)
+            throws IOException {
+        int flags = buffer.get();
+        String title = strings[readVarInt(buffer)];
+        Long deadline = (flags & FLAG_DEADLINE) != 0 ? buffer.getLong() : null;
+        Long scheduleStart = null;
+        Long scheduleEnd = null;
+        if ((flags & FLAG_SCHEDULE) != 0) {
+            scheduleStart = buffer.getLong();
+            scheduleEnd = buffer.getLong();
+        }
+        String[] tagNames = new String[readVarInt(buffer)];
+        for (int i = 0; i < tagNames.length; i++) {
+            tagNames[i] = strings[readVarInt(buffer)];
+        }
+
+        try {
+            List<Tag> tagList = new ArrayList<>();
+            for (String tagName : tagNames) {
+                tagList.add(new Tag(tagName));
+            }
+            Title activityTitle = new Title(title);
+            UniqueTagList tags = new UniqueTagList(tagList);
+            Schedule schedule = scheduleStart != null ? new Schedule(scheduleStart, scheduleEnd) : null;
+
+            Activity activity;
+            if ((flags & FLAG_TASK) != 0) {
+                Task task = new Task(activityTitle, tags, deadline != null ? new Deadline(deadline) : null, schedule);
+                task.setStatus((flags & FLAG_COMPLETED) != 0 ? new Status(Status.COMPLETE) : new Status());
+                activity = new Activity(task);
+            } else {
+                activity = new Activity(new Event(activityTitle, tags, schedule));
+            }
+            activities.add(activity);
+        } catch (IllegalValueException e) {
+            // also covers duplicate activities
+            logger.info(LogsCenter.getConversionFailedMessage(title));
+        }
+    }
+
+    private static int readVarInt(ByteBuffer buffer) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < Integer.SIZE; shift += 7) {
+            byte next = buffer.get();
+            value |= (next & 0x7F) << shift;
+            if ((next & 0x80) == 0) {
+                if (value < 0) {
+                    break;
+                }
+                return value;
+            }
+        }
+        throw new IOException("Malformed varint in TaskMan snapshot");
+    }
+}
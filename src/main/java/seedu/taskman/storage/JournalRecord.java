@@ -0,0 +1,148 @@
+package seedu.taskman.storage;
+
+import seedu.taskman.commons.exceptions.IllegalValueException;
+import seedu.taskman.model.event.Activity;
+import seedu.taskman.model.event.Deadline;
+import seedu.taskman.model.event.Event;
+import seedu.taskman.model.event.Schedule;
+import seedu.taskman.model.event.Status;
+import seedu.taskman.model.event.Task;
+import seedu.taskman.model.event.Title;
+import seedu.taskman.model.tag.Tag;
+import seedu.taskman.model.tag.UniqueTagList;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * JSON-friendly record of a single change to the TaskMan data, as appended to a journal file.
+ * Dates are kept as epoch seconds, so replaying a journal never goes through natural language parsing.
+ */
+public class JournalRecord {
+
+    public enum Operation {
+        ADD, REMOVE, REPLACE
+    }
+
+    private Operation operation;
+    private String title;
+
+    private Activity.ActivityType type;
+    private Boolean completed;
+    private Long deadline;
+    private Long scheduleStart;
+    private Long scheduleEnd;
+    private List<String> tags;
+
+    /**
+     * No-arg constructor for Jackson use.
+     */
+    private JournalRecord() {
+    }
+
+    private JournalRecord(Operation operation, Activity source) {
+        this.operation = operation;
+        this.title = source.getTitle().title;
+        this.type = source.getType();
+
+        if (source.getStatus().isPresent()) {
+            completed = source.getStatus().get().completed;
+        }
+
+        if (source.getDeadline().isPresent()) {
+            deadline = source.getDeadline().get().epochSecond;
+        }
+
+        if (source.getSchedule().isPresent()) {
+            Schedule schedule = source.getSchedule().get();
+            scheduleStart = schedule.startEpochSecond;
+            scheduleEnd = schedule.endEpochSecond;
+        }
+
+        tags = new ArrayList<>();
+        for (Tag tag : source.getTags()) {
+            tags.add(tag.tagName);
+        }
+    }
+
+    /**
+     * Records the addition of the given activity.
+     */
+    public static JournalRecord add(Activity added) {
+        return new JournalRecord(Operation.ADD, added);
+    }
+
+    /**
+     * Records the replacement of the activity with the same title by the given activity.
+     */
+    public static JournalRecord replace(Activity replacement) {
+        return new JournalRecord(Operation.REPLACE, replacement);
+    }
+
+    /**
+     * Records the removal of the activity with the given title.
+     */
+    public static JournalRecord remove(Title removed) {
+        JournalRecord record = new JournalRecord();
+        record.operation = Operation.REMOVE;
+        record.title = removed.title;
+        return record;
+    }
+
+    public Operation getOperation() {
+        return operation;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    /**
+     * Converts the activity carried by an ADD or REPLACE record into the model's Activity object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the record
+     */
+    public Activity toModelType() throws IllegalValueException {
+        assert operation != Operation.REMOVE;
+
+        final List<Tag> activityTags = new ArrayList<>();
+        if (this.tags != null) {
+            for (String tagName : this.tags) {
+                activityTags.add(new Tag(tagName));
+            }
+        }
+        final Title title = new Title(this.title);
+        final UniqueTagList tags = new UniqueTagList(activityTags);
+        final Schedule schedule = this.scheduleStart != null && this.scheduleEnd != null
+                ? new Schedule(this.scheduleStart, this.scheduleEnd)
+                : null;
+
+        switch (type) {
+            case TASK: {
+                final Deadline deadline = this.deadline != null
+                        ? new Deadline(this.deadline)
+                        : null;
+                Task task = new Task(title, tags, deadline, schedule);
+                task.setStatus(completed != null && completed
+                        ? new Status(Status.COMPLETE)
+                        : new Status());
+                return new Activity(task);
+            }
+            case EVENT: {
+                return new Activity(new Event(title, tags, schedule));
+            }
+            default: {
+                throw new IllegalValueException("Journal record is neither an event nor a task");
+            }
+        }
+    }
+
+    /**
+     *
+     * @return String representation for logging
+     */
+    @Override
+    public String toString() {
+        return operation + " " + title;
+    }
+}
@@ -0,0 +1,373 @@
+package seedu.taskman.storage;
+
+import seedu.taskman.commons.core.LogsCenter;
+import seedu.taskman.commons.exceptions.DataConversionException;
+import seedu.taskman.commons.exceptions.IllegalValueException;
+import seedu.taskman.commons.util.FileUtil;
+import seedu.taskman.commons.util.JsonUtil;
+import seedu.taskman.commons.util.StringUtil;
+import seedu.taskman.model.ReadOnlyTaskMan;
+import seedu.taskman.model.TaskMan;
+import seedu.taskman.model.TaskManChangeSet;
+import seedu.taskman.model.event.Activity;
+import seedu.taskman.model.event.Title;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.logging.Logger;
+
+/**
+ * A class to access TaskMan data stored as an xml snapshot plus an append-only journal of changes.
+ * <p>
+ * Saving appends a record for every activity added, removed or replaced since the last save,
+ * instead of rewriting the whole file. The records are written straight from the changes when they are
+ * known, and otherwise found by comparing the data with what was last saved. Once the journal grows past a size threshold, it is compacted
+ * into a new snapshot in the background. Reading replays the journal on top of the snapshot.
+ * Expired activities are dropped whenever data is read, so compaction leaves them out of the new snapshot,
+ * and they do not pile up in the file.
+ * <p>
+ * Replaying a journal is idempotent, as every record sets or clears the activity with a given title.
+ * A snapshot that already contains some of the journaled changes therefore still reads back correctly.
+ */
+public class JournalTaskManStorage implements TaskManStorage {
+
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+    public static final String COMPACTING_JOURNAL_FILE_SUFFIX = ".journal.compacting";
+    public static final long DEFAULT_COMPACTION_THRESHOLD_BYTES = 1024 * 1024; // 1MB
+
+    private static final Logger logger = LogsCenter.getLogger(JournalTaskManStorage.class);
+
+    private final long compactionThresholdBytes;
+    private final ExecutorService compactionExecutor;
+
+    private String filePath;
+
+    // Data file that lastSaved describes, null if nothing has been read or saved yet
+    private String journaledFilePath;
+    private Map<Title, Activity> lastSaved = new LinkedHashMap<>();
+    private Future<?> pendingCompaction;
+
+    public JournalTaskManStorage(String filePath) {
+        this(filePath, DEFAULT_COMPACTION_THRESHOLD_BYTES);
+    }
+
+    public JournalTaskManStorage(String filePath, long compactionThresholdBytes) {
+        this.filePath = filePath;
+        this.compactionThresholdBytes = compactionThresholdBytes;
+        this.compactionExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "TaskMan journal compaction");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Override
+    public String getTaskManFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public void setTaskManFilePath(String filePath) {
+        this.filePath = filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyTaskMan> readTaskMan() throws DataConversionException, IOException {
+        return readTaskMan(filePath);
+    }
+
+    /**
+     * Similar to {@link #readTaskMan()}
+     *
+     * @param filePath location of the snapshot. Cannot be null
+     * @throws DataConversionException if the snapshot or journal is not in the correct format.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyTaskMan> readTaskMan(String filePath)
+            throws DataConversionException, IOException {
+        assert filePath != null;
+
+        File snapshotFile = new File(filePath);
+        File compactingJournalFile = new File(filePath + COMPACTING_JOURNAL_FILE_SUFFIX);
+        File journalFile = new File(filePath + JOURNAL_FILE_SUFFIX);
+
+        if (!snapshotFile.exists() && !compactingJournalFile.exists() && !journalFile.exists()) {
+            logger.info("TaskMan file " + snapshotFile + " not found");
+            return Optional.empty();
+        }
+
+        Map<Title, Activity> activities = new LinkedHashMap<>();
+        if (snapshotFile.exists()) {
+            for (Activity activity : XmlFileStorage.loadTaskManFromSaveFile(snapshotFile).getActivityList()) {
+                activities.put(activity.getTitle(), activity);
+            }
+        }
+        replayJournal(compactingJournalFile, activities);
+        replayJournal(journalFile, activities);
+
+        journaledFilePath = filePath;
+        lastSaved = new LinkedHashMap<>(activities);
+
+        TaskMan taskMan = new TaskMan();
+        taskMan.setActivities(new ArrayList<>(activities.values()));
+        return Optional.of(taskMan);
+    }
+
+    private void replayJournal(File journalFile, Map<Title, Activity> activities)
+            throws DataConversionException, IOException {
+        if (!FileUtil.isFileExists(journalFile)) {
+            return;
+        }
+
+        List<String> lines = Files.readAllLines(journalFile.toPath(), StandardCharsets.UTF_8);
+        for (int i = 0; i < lines.size(); i++) {
+            if (lines.get(i).trim().isEmpty()) {
+                continue;
+            }
+
+            JournalRecord record;
+            try {
+                record = JsonUtil.fromJsonString(lines.get(i), JournalRecord.class);
+            } catch (IOException e) {
+                boolean isLastLine = i == lines.size() - 1;
+                if (isLastLine) {
+                    // a record torn by a crash mid-append was never acknowledged as saved
+                    logger.warning("Ignoring incomplete record at the end of " + journalFile);
+                    continue;
+                }
+                throw new DataConversionException(e);
+            }
+
+            try {
+                applyRecord(record, activities);
+            } catch (IllegalValueException e) {
+                logger.info(LogsCenter.getConversionFailedMessage(record.toString()));
+            }
+        }
+    }
+
+    private void applyRecord(JournalRecord record, Map<Title, Activity> activities) throws IllegalValueException {
+        switch (record.getOperation()) {
+            case ADD: {
+                Activity added = record.toModelType();
+                activities.put(added.getTitle(), added);
+                break;
+            }
+            case REPLACE: {
+                // edits are a delete followed by an add in the model, so the replacement moves to the end
+                Activity replacement = record.toModelType();
+                activities.remove(replacement.getTitle());
+                activities.put(replacement.getTitle(), replacement);
+                break;
+            }
+            case REMOVE: {
+                activities.remove(new Title(record.getTitle()));
+                break;
+            }
+            default: {
+                assert false : "Unknown journal operation";
+            }
+        }
+    }
+
+    @Override
+    public void saveTaskMan(ReadOnlyTaskMan taskMan) throws IOException {
+        saveTaskMan(taskMan, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveTaskMan(ReadOnlyTaskMan)}
+     * Writes a full snapshot if the journal for {@code filePath} is not known to be up to date.
+     *
+     * @param filePath location of the snapshot. Cannot be null
+     */
+    @Override
+    public synchronized void saveTaskMan(ReadOnlyTaskMan taskMan, String filePath) throws IOException {
+        assert taskMan != null;
+        assert filePath != null;
+
+        Map<Title, Activity> current = new LinkedHashMap<>();
+        for (Activity activity : taskMan.getActivityList()) {
+            current.put(activity.getTitle(), activity);
+        }
+
+        if (!filePath.equals(journaledFilePath)) {
+            saveSnapshot(filePath, current);
+            journaledFilePath = filePath;
+            lastSaved = current;
+            return;
+        }
+
+        List<JournalRecord> records = getChangeRecords(lastSaved, current);
+        appendRecords(filePath, records);
+        lastSaved = current;
+    }
+
+    /**
+     * Similar to {@link #saveTaskMan(ReadOnlyTaskMan, String)}, but appends a record for each activity in the
+     * given changes instead of comparing all the data with what was last saved.
+     */
+    @Override
+    public synchronized void saveTaskMan(ReadOnlyTaskMan taskMan, List<TaskManChangeSet> changes, String filePath)
+            throws IOException {
+        assert taskMan != null;
+        assert changes != null;
+        assert filePath != null;
+
+        if (!filePath.equals(journaledFilePath)) {
+            saveTaskMan(taskMan, filePath);
+            return;
+        }
+
+        List<JournalRecord> records = new ArrayList<>();
+        for (TaskManChangeSet change : changes) {
+            for (Activity removed : change.getRemoved()) {
+                records.add(JournalRecord.remove(removed.getTitle()));
+                lastSaved.remove(removed.getTitle());
+            }
+            for (TaskManChangeSet.Replacement replacement : change.getReplaced()) {
+                records.add(JournalRecord.replace(replacement.current));
+                lastSaved.remove(replacement.current.getTitle());
+                lastSaved.put(replacement.current.getTitle(), replacement.current);
+            }
+            for (Activity added : change.getAdded()) {
+                records.add(JournalRecord.add(added));
+                lastSaved.put(added.getTitle(), added);
+            }
+        }
+        appendRecords(filePath, records);
+    }
+
+    /**
+     * Appends the records to the journal of {@code filePath}, compacting it once it grows too large.
+     * If the records cannot be written, the next save writes a full snapshot instead.
+     */
+    private void appendRecords(String filePath, List<JournalRecord> records) throws IOException {
+        if (records.isEmpty()) {
+            return;
+        }
+
+        File journalFile = new File(filePath + JOURNAL_FILE_SUFFIX);
+        try {
+            appendToJournal(journalFile, records);
+        } catch (IOException e) {
+            journaledFilePath = null;
+            throw e;
+        }
+
+        if (journalFile.length() > compactionThresholdBytes) {
+            scheduleCompaction(filePath);
+        }
+    }
+
+    /**
+     * Returns the records which turn {@code saved} into {@code current}.
+     */
+    private List<JournalRecord> getChangeRecords(Map<Title, Activity> saved, Map<Title, Activity> current) {
+        List<JournalRecord> records = new ArrayList<>();
+        for (Title title : saved.keySet()) {
+            if (!current.containsKey(title)) {
+                records.add(JournalRecord.remove(title));
+            }
+        }
+        for (Activity activity : current.values()) {
+            Activity savedActivity = saved.get(activity.getTitle());
+            if (savedActivity == null) {
+                records.add(JournalRecord.add(activity));
+            } else if (!savedActivity.hasSameDetailsAs(activity)) {
+                records.add(JournalRecord.replace(activity));
+            }
+        }
+        return records;
+    }
+
+    private void appendToJournal(File journalFile, List<JournalRecord> records) throws IOException {
+        FileUtil.createIfMissing(journalFile);
+        try (FileOutputStream out = new FileOutputStream(journalFile, true)) {
+            Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+            for (JournalRecord record : records) {
+                writer.write(JsonUtil.toCompactJsonString(record));
+                writer.write(System.lineSeparator());
+            }
+            writer.flush();
+            out.getFD().sync();
+        }
+    }
+
+    /**
+     * Writes a complete snapshot and discards the journals it supersedes.
+     */
+    private void saveSnapshot(String filePath, Map<Title, Activity> activities) throws IOException {
+        awaitCompaction();
+        writeSnapshotFile(new File(filePath), activities);
+        Files.deleteIfExists(new File(filePath + COMPACTING_JOURNAL_FILE_SUFFIX).toPath());
+        Files.deleteIfExists(new File(filePath + JOURNAL_FILE_SUFFIX).toPath());
+    }
+
+    private static void writeSnapshotFile(File snapshotFile, Map<Title, Activity> activities) throws IOException {
+        TaskMan taskMan = new TaskMan();
+        taskMan.setActivities(new ArrayList<>(activities.values()));
+        XmlFileStorage.saveDataToFile(snapshotFile, new XmlSerializableTaskMan(taskMan));
+    }
+
+    /**
+     * Moves the current journal aside and writes a new snapshot in the background.
+     * New records go to a fresh journal in the meantime.
+     */
+    private void scheduleCompaction(String filePath) throws IOException {
+        if (pendingCompaction != null && !pendingCompaction.isDone()) {
+            return;
+        }
+
+        File journalFile = new File(filePath + JOURNAL_FILE_SUFFIX);
+        File compactingJournalFile = new File(filePath + COMPACTING_JOURNAL_FILE_SUFFIX);
+
+        // a journal left over from a failed compaction is covered by the new snapshot as well
+        if (!compactingJournalFile.exists()) {
+            Files.move(journalFile.toPath(), compactingJournalFile.toPath(), StandardCopyOption.ATOMIC_MOVE);
+        }
+
+        lastSaved.values().removeIf(Activity::isExpired);
+        Map<Title, Activity> snapshot = new LinkedHashMap<>(lastSaved);
+        pendingCompaction = compactionExecutor.submit(() -> compact(filePath, snapshot));
+    }
+
+    /**
+     * Blocks until the compaction in progress, if any, has finished writing its snapshot.
+     */
+    private void awaitCompaction() {
+        if (pendingCompaction == null) {
+            return;
+        }
+        try {
+            pendingCompaction.get();
+        } catch (InterruptedException | ExecutionException e) {
+            logger.warning("Interrupted while waiting for journal compaction: " + e);
+        }
+    }
+
+    private void compact(String filePath, Map<Title, Activity> snapshot) {
+        try {
+            writeSnapshotFile(new File(filePath), snapshot);
+            Files.deleteIfExists(new File(filePath + COMPACTING_JOURNAL_FILE_SUFFIX).toPath());
+            logger.fine("Compacted journal into snapshot: " + filePath);
+        } catch (IOException e) {
+            logger.warning("Failed to compact journal of " + filePath + ": " + StringUtil.getDetails(e));
+        }
+    }
+}
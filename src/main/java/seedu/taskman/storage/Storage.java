@@ -30,9 +30,14 @@ public interface Storage extends TaskManStorage, UserPrefsStorage {
     void saveTaskMan(ReadOnlyTaskMan taskMan) throws IOException;
 
     /**
-     * Saves the current version of the TaskMan to the hard disk.
+     * Schedules the current version of the TaskMan to be saved to the hard disk.
      * Creates the data file if it is missing.
      * Raises {@link DataSavingExceptionEvent} if there was an error during saving.
      */
     void handleTaskManChangedEvent(TaskManChangedEvent abce);
+
+    /**
+     * Saves any TaskMan data still waiting to be saved, returning once it is written.
+     */
+    void flushPendingSave();
 }
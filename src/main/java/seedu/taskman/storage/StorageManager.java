@@ -2,43 +2,108 @@ package seedu.taskman.storage;
 
 import com.google.common.eventbus.Subscribe;
 import seedu.taskman.commons.core.ComponentManager;
+import seedu.taskman.commons.core.EventsCenter;
 import seedu.taskman.commons.core.LogsCenter;
+import seedu.taskman.commons.core.MetricsCenter;
+import seedu.taskman.commons.core.config.ConfigData;
 import seedu.taskman.commons.events.model.TaskManChangedEvent;
 import seedu.taskman.commons.events.storage.DataSavingExceptionEvent;
 import seedu.taskman.commons.exceptions.DataConversionException;
 import seedu.taskman.model.ReadOnlyTaskMan;
 import seedu.taskman.model.TaskMan;
+import seedu.taskman.model.TaskManChangeSet;
 import seedu.taskman.model.UserPrefs;
 import seedu.taskman.model.event.Activity;
 
 import javax.annotation.Nonnull;
+import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Logger;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 /**
  * Manages storage of TaskMan data in LOCAL storage.
+ * <p>
+ * Changes to the TaskMan data are saved on a dedicated thread, once no further change has arrived
+ * for the save delay. Only the latest data is written when several changes arrive within the delay,
+ * together with the changes that led to it, so storages which save changes alone need not look for them.
  */
 public class StorageManager extends ComponentManager implements Storage {
 
+    public static final String METRIC_SAVE = "storage.save";
+    public static final String METRIC_FAILED_SAVES = "storage.saves.failed";
+    public static final String METRIC_LAST_SAVE_MICROS = "storage.lastSave.micros";
+    public static final String METRIC_LAST_SAVE_BYTES = "storage.lastSave.bytes";
+
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
     private TaskManStorage taskManStorage;
     private UserPrefsStorage userPrefsStorage;
 
+    private final long saveDelayMillis;
+    private final ScheduledExecutorService saveExecutor;
+    private final Object saveLock = new Object();
+
+    // Latest data waiting to be saved, null if there is none. Guarded by this
+    private ReadOnlyTaskMan pendingTaskMan;
+    // Changes since the last save in the order they were made, null if not all are known. Guarded by this
+    private List<TaskManChangeSet> pendingChanges;
+    private ScheduledFuture<?> scheduledSave;
+
 
     public StorageManager(TaskManStorage taskManStorage, UserPrefsStorage userPrefsStorage) {
-        super();
+        this(taskManStorage, userPrefsStorage, ConfigData.DEFAULT_TASK_MAN_SAVE_DELAY_MILLIS);
+    }
+
+    public StorageManager(TaskManStorage taskManStorage, UserPrefsStorage userPrefsStorage, long saveDelayMillis) {
+        super(EventsCenter.getInstance(), EventsCenter.DispatchLane.STORAGE);
         this.taskManStorage = taskManStorage;
         this.userPrefsStorage = userPrefsStorage;
+        this.saveDelayMillis = saveDelayMillis;
+        this.saveExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "TaskMan storage");
+            thread.setDaemon(true);
+            return thread;
+        });
     }
 
     public StorageManager(String taskManFilePath, String userPrefsFilePath) {
         this(new XmlTaskManStorage(taskManFilePath), new JsonUserPrefsStorage(userPrefsFilePath));
     }
 
+    public StorageManager(String taskManFilePath, String userPrefsFilePath,
+                          ConfigData.StorageFormat storageFormat, long saveDelayMillis) {
+        this(createTaskManStorage(taskManFilePath, storageFormat), new JsonUserPrefsStorage(userPrefsFilePath),
+                saveDelayMillis);
+    }
+
+    /**
+     * Creates the TaskManStorage which keeps the data file in the given format
+     */
+    private static TaskManStorage createTaskManStorage(String taskManFilePath,
+                                                       ConfigData.StorageFormat storageFormat) {
+        switch (storageFormat) {
+            case JOURNAL: {
+                return new JournalTaskManStorage(taskManFilePath);
+            }
+            case XML: {
+                return new XmlTaskManStorage(taskManFilePath);
+            }
+            case BINARY: {
+                return new BinaryTaskManStorage(taskManFilePath);
+            }
+            default: {
+                throw new AssertionError("Unknown storage format");
+            }
+        }
+    }
+
     // ================ UserPrefs methods ==============================
 
     @Override
@@ -66,7 +131,7 @@ public class StorageManager extends ComponentManager implements Storage {
 
     @Override
     public Optional<ReadOnlyTaskMan> readTaskMan(String filePath) throws DataConversionException, IOException {
-        logger.fine("Attempting to read data from file: " + filePath);
+        logger.fine(() -> "Attempting to read data from file: " + filePath);
         Optional<ReadOnlyTaskMan> rawTaskMan = taskManStorage.readTaskMan(filePath);
 
         return rawTaskMan.isPresent()
@@ -74,15 +139,24 @@ public class StorageManager extends ComponentManager implements Storage {
                 : rawTaskMan;
     }
 
-    private Optional<ReadOnlyTaskMan> removeExpiredActivities(@Nonnull  ReadOnlyTaskMan readOnlyTskMan) {
-        TaskMan taskMan = new TaskMan(readOnlyTskMan);
-        Stream<Activity> activityStream = taskMan.getActivityList().stream();
-        List<Activity> withoutOldEntries =
-                activityStream
-                        .filter(activity -> !activity.isExpired())
-                        .collect(Collectors.toList());
-        taskMan.setActivities(withoutOldEntries);
+    /**
+     * The unexpired activities are shared rather than copied, and the data read is returned as is
+     * when nothing has expired.
+     */
+    private Optional<ReadOnlyTaskMan> removeExpiredActivities(@Nonnull ReadOnlyTaskMan readOnlyTaskMan) {
+        List<Activity> activities = readOnlyTaskMan.getActivityList();
+        List<Activity> withoutOldEntries = new ArrayList<>(activities.size());
+        for (Activity activity : activities) {
+            if (!activity.isExpired()) {
+                withoutOldEntries.add(activity);
+            }
+        }
+        if (withoutOldEntries.size() == activities.size()) {
+            return Optional.of(readOnlyTaskMan);
+        }
 
+        TaskMan taskMan = new TaskMan();
+        taskMan.setActivities(withoutOldEntries);
         return Optional.of(taskMan);
     }
 
@@ -93,8 +167,19 @@ public class StorageManager extends ComponentManager implements Storage {
 
     @Override
     public void saveTaskMan(ReadOnlyTaskMan taskMan, String filePath) throws IOException {
-        logger.fine("Attempting to write to data file: " + filePath);
-        taskManStorage.saveTaskMan(taskMan, filePath);
+        logger.fine(() -> "Attempting to write to data file: " + filePath);
+        synchronized (saveLock) {
+            taskManStorage.saveTaskMan(taskMan, filePath);
+        }
+    }
+
+    @Override
+    public void saveTaskMan(ReadOnlyTaskMan taskMan, List<TaskManChangeSet> changes, String filePath)
+            throws IOException {
+        logger.fine(() -> "Attempting to write changes to data file: " + filePath);
+        synchronized (saveLock) {
+            taskManStorage.saveTaskMan(taskMan, changes, filePath);
+        }
     }
 
     @Override
@@ -106,11 +191,73 @@ public class StorageManager extends ComponentManager implements Storage {
     @Override
     @Subscribe
     public void handleTaskManChangedEvent(TaskManChangedEvent event) {
-        logger.info(LogsCenter.getEventHandlingLogMessage(event, "Local data changed, saving to file"));
+        if (event.getChanges().isPresent() && event.getChanges().get().isEmpty()) {
+            logger.fine(() -> LogsCenter.getEventHandlingLogMessage(event, "No activities changed, not saving"));
+            return;
+        }
+        logger.info(() -> LogsCenter.getEventHandlingLogMessage(event, "Local data changed, scheduling save to file"));
+        scheduleSave(event.data, event.getChanges());
+    }
+
+    /**
+     * Replaces any data waiting to be saved, adds the changes to those waiting to be saved
+     * and restarts the save delay.
+     */
+    private synchronized void scheduleSave(ReadOnlyTaskMan taskMan, Optional<TaskManChangeSet> changes) {
+        if (pendingTaskMan == null) {
+            pendingChanges = new ArrayList<>();
+        }
+        pendingTaskMan = taskMan;
+        if (pendingChanges != null && changes.isPresent()) {
+            pendingChanges.add(changes.get());
+        } else {
+            pendingChanges = null;
+        }
+        if (scheduledSave != null) {
+            scheduledSave.cancel(false);
+        }
+        scheduledSave = saveExecutor.schedule(this::savePendingTaskMan, saveDelayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private void savePendingTaskMan() {
+        ReadOnlyTaskMan toSave;
+        List<TaskManChangeSet> changes;
+        synchronized (this) {
+            toSave = pendingTaskMan;
+            changes = pendingChanges;
+            pendingTaskMan = null;
+            pendingChanges = null;
+        }
+        if (toSave == null) {
+            return;
+        }
+
+        MetricsCenter metrics = MetricsCenter.getInstance();
+        long saveStart = System.nanoTime();
         try {
-            saveTaskMan(event.data);
+            if (changes == null) {
+                saveTaskMan(toSave);
+            } else {
+                saveTaskMan(toSave, changes, getTaskManFilePath());
+            }
         } catch (IOException e) {
+            metrics.increment(METRIC_FAILED_SAVES);
             raise(new DataSavingExceptionEvent(e));
+            return;
+        }
+        long saveNanos = System.nanoTime() - saveStart;
+        metrics.getHistogram(METRIC_SAVE).record(saveNanos);
+        metrics.setGauge(METRIC_LAST_SAVE_MICROS, TimeUnit.NANOSECONDS.toMicros(saveNanos));
+        metrics.setGauge(METRIC_LAST_SAVE_BYTES, new File(getTaskManFilePath()).length());
+    }
+
+    @Override
+    public void flushPendingSave() {
+        eventsCenter.awaitDispatch(EventsCenter.DispatchLane.STORAGE);
+        try {
+            saveExecutor.submit(this::savePendingTaskMan).get();
+        } catch (InterruptedException | ExecutionException e) {
+            logger.warning("Failed to save pending data: " + e);
         }
     }
 
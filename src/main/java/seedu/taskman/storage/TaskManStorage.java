@@ -3,8 +3,10 @@ package seedu.taskman.storage;
 import seedu.taskman.commons.exceptions.DataConversionException;
 import seedu.taskman.model.ReadOnlyTaskMan;
 import seedu.taskman.model.TaskMan;
+import seedu.taskman.model.TaskManChangeSet;
 
 import java.io.IOException;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -44,6 +46,18 @@ public interface TaskManStorage {
      */
     void saveTaskMan(ReadOnlyTaskMan taskMan, String filePath) throws IOException;
 
+    /**
+     * Saves the given {@link ReadOnlyTaskMan}, which is the data last saved to or read from {@code filePath}
+     * with the given changes applied in order.
+     * Storages which always write all the data ignore the changes and save the data as a whole.
+     *
+     * @see #saveTaskMan(ReadOnlyTaskMan)
+     */
+    default void saveTaskMan(ReadOnlyTaskMan taskMan, List<TaskManChangeSet> changes, String filePath)
+            throws IOException {
+        saveTaskMan(taskMan, filePath);
+    }
+
     void setTaskManFilePath(String filePath);
 
 }
@@ -17,6 +17,12 @@ public class XmlAdaptedEvent {
     @XmlElement(required = true)
     private String title;
     @XmlElement(required = false)
+    private Long scheduleStartEpochSecond;
+    @XmlElement(required = false)
+    private Long scheduleEndEpochSecond;
+
+    // Formal datetimes, used by files of the legacy format version instead of epoch seconds
+    @XmlElement(required = false)
     private String scheduleStart;
     @XmlElement(required = false)
     private String scheduleEnd;
@@ -41,8 +47,8 @@ public class XmlAdaptedEvent {
 
         if (source.getSchedule().isPresent()) {
             Schedule schedule = source.getSchedule().get();
-            scheduleStart = schedule.getFormalStartString();
-            scheduleEnd = schedule.getFormalEndString();
+            scheduleStartEpochSecond = schedule.startEpochSecond;
+            scheduleEndEpochSecond = schedule.endEpochSecond;
         }
 
         tagged = new ArrayList<>();
@@ -55,23 +61,33 @@ public class XmlAdaptedEvent {
     /**
      * Converts this JAXB-friendly adapted event object into the model's Event object.
      *
+     * @param formatVersion the format version of the file the event was saved in
      * @throws IllegalValueException if there were any data constraints violated in the adapted event
      */
-    public Event toModelType() throws IllegalValueException {
+    public Event toModelType(int formatVersion) throws IllegalValueException {
         final List<Tag> eventTags = new ArrayList<>();
         for (XmlAdaptedTag tag : tagged) {
             eventTags.add(tag.toModelType());
         }
         final Title title = new Title(this.title);
         final UniqueTagList tags = new UniqueTagList(eventTags);
-        final Schedule schedule = this.scheduleStart != null && this.scheduleEnd != null
-                ? new Schedule(this.scheduleStart + ", " +this.scheduleEnd)
-                : null;
+        final Schedule schedule = toSchedule(formatVersion);
 
         Event event = new Event(title, tags, schedule);
         return event;
     }
 
+    private Schedule toSchedule(int formatVersion) throws IllegalValueException {
+        if (formatVersion == XmlSerializableTaskMan.LEGACY_FORMAT_VERSION) {
+            return scheduleStart != null && scheduleEnd != null
+                    ? new Schedule(scheduleStart + ", " + scheduleEnd)
+                    : null;
+        }
+        return scheduleStartEpochSecond != null && scheduleEndEpochSecond != null
+                ? new Schedule(scheduleStartEpochSecond, scheduleEndEpochSecond)
+                : null;
+    }
+
     public String getTitle(){
         return title;
     }
@@ -84,7 +100,9 @@ public class XmlAdaptedEvent {
     public String toString(){
         final StringBuilder builder = new StringBuilder();
         builder.append("Title: ").append(title).append(", ");
-        builder.append("Schedule: ").append(scheduleStart + " to " +scheduleEnd).append(", ");
+        builder.append("Schedule: ").append(scheduleStartEpochSecond != null
+                ? scheduleStartEpochSecond + " to " + scheduleEndEpochSecond
+                : scheduleStart + " to " + scheduleEnd).append(", ");
         builder.append("Tags: ").append(tagged);
         return builder.toString();
     }
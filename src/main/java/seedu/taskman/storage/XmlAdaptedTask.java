@@ -19,6 +19,14 @@ public class XmlAdaptedTask {
     @XmlElement(required = true)
     private String status;
 
+    @XmlElement(required = false)
+    private Long deadlineEpochSecond;
+    @XmlElement(required = false)
+    private Long scheduleStartEpochSecond;
+    @XmlElement(required = false)
+    private Long scheduleEndEpochSecond;
+
+    // Formal datetimes, used by files of the legacy format version instead of epoch seconds
     @XmlElement(required = false)
     private String deadline;
     @XmlElement(required = false)
@@ -51,13 +59,13 @@ public class XmlAdaptedTask {
         }
 
         if (source.getDeadline().isPresent()) {
-            deadline = source.getDeadline().get().toFormalString();
+            deadlineEpochSecond = source.getDeadline().get().epochSecond;
         }
 
         if (source.getSchedule().isPresent()) {
             Schedule schedule = source.getSchedule().get();
-            scheduleStart = schedule.getFormalStartString();
-            scheduleEnd = schedule.getFormalEndString();
+            scheduleStartEpochSecond = schedule.startEpochSecond;
+            scheduleEndEpochSecond = schedule.endEpochSecond;
         }
 
         tagged = new ArrayList<>();
@@ -70,9 +78,10 @@ public class XmlAdaptedTask {
     /**
      * Converts this JAXB-friendly adapted task object into the model's Task object.
      *
+     * @param formatVersion the format version of the file the task was saved in
      * @throws IllegalValueException if there were any data constraints violated in the adapted task
      */
-    public Task toModelType() throws IllegalValueException {
+    public Task toModelType(int formatVersion) throws IllegalValueException {
         final List<Tag> taskTags = new ArrayList<>();
         for (XmlAdaptedTag tag : tagged) {
             taskTags.add(tag.toModelType());
@@ -80,18 +89,36 @@ public class XmlAdaptedTask {
         final Title title = new Title(this.title);
         final Status status = new Status(this.status);
         final UniqueTagList tags = new UniqueTagList(taskTags);
-        final Deadline deadline = this.deadline != null
-                ? new Deadline(this.deadline)
-                : null;
-        final Schedule schedule = this.scheduleStart != null && this.scheduleEnd != null
-                ? new Schedule(this.scheduleStart + ", " + this.scheduleEnd)
-                : null;
+        final Deadline deadline = toDeadline(formatVersion);
+        final Schedule schedule = toSchedule(formatVersion);
 
         Task task = new Task(title, tags, deadline, schedule);
         task.setStatus(status);
         return task;
     }
 
+    private Deadline toDeadline(int formatVersion) throws IllegalValueException {
+        if (formatVersion == XmlSerializableTaskMan.LEGACY_FORMAT_VERSION) {
+            return deadline != null
+                    ? new Deadline(deadline)
+                    : null;
+        }
+        return deadlineEpochSecond != null
+                ? new Deadline(deadlineEpochSecond)
+                : null;
+    }
+
+    private Schedule toSchedule(int formatVersion) throws IllegalValueException {
+        if (formatVersion == XmlSerializableTaskMan.LEGACY_FORMAT_VERSION) {
+            return scheduleStart != null && scheduleEnd != null
+                    ? new Schedule(scheduleStart + ", " + scheduleEnd)
+                    : null;
+        }
+        return scheduleStartEpochSecond != null && scheduleEndEpochSecond != null
+                ? new Schedule(scheduleStartEpochSecond, scheduleEndEpochSecond)
+                : null;
+    }
+
     /**
      *
      * @return String representation for logging
@@ -101,8 +128,10 @@ public class XmlAdaptedTask {
         final StringBuilder builder = new StringBuilder();
         builder.append("Title: ").append(title).append(", ");
         builder.append("Status: ").append(status).append(", ");
-        builder.append("Deadline: ").append(deadline).append(", ");
-        builder.append("Schedule: ").append(scheduleStart + " to " +scheduleEnd).append(", ");
+        builder.append("Deadline: ").append(deadlineEpochSecond != null ? deadlineEpochSecond : deadline).append(", ");
+        builder.append("Schedule: ").append(scheduleStartEpochSecond != null
+                ? scheduleStartEpochSecond + " to " + scheduleEndEpochSecond
+                : scheduleStart + " to " + scheduleEnd).append(", ");
         builder.append("Tags: ").append(tagged);
         return builder.toString();
     }
@@ -1,38 +1,138 @@
 package seedu.taskman.storage;
 
+import seedu.taskman.commons.core.LogsCenter;
+import seedu.taskman.commons.exceptions.IllegalValueException;
+import seedu.taskman.commons.util.FileUtil;
 import seedu.taskman.commons.util.XmlUtil;
 import seedu.taskman.commons.exceptions.DataConversionException;
+import seedu.taskman.model.TaskMan;
+import seedu.taskman.model.event.Activity;
 
 import javax.xml.bind.JAXBException;
 import java.io.File;
 import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Logger;
 
 /**
  * Stores taskMan data in an XML file
  */
 public class XmlFileStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(XmlFileStorage.class);
+
     /**
      * Saves the given taskMan data to the specified file.
+     * The data is written to a temporary file which then replaces the specified file,
+     * so the file is never left partially written.
      */
-    public static void saveDataToFile(File file, XmlSerializableTaskMan taskMan)
-            throws FileNotFoundException {
+    public static void saveDataToFile(File file, XmlSerializableTaskMan taskMan) throws IOException {
+        FileUtil.createParentDirsOfFile(file);
+        File tempFile = File.createTempFile("." + file.getName() + "-", ".tmp",
+                file.getAbsoluteFile().getParentFile());
         try {
-            XmlUtil.saveDataToFile(file, taskMan);
+            XmlUtil.saveDataToFile(tempFile, taskMan);
+            Files.move(tempFile.toPath(), file.toPath(),
+                    StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
         } catch (JAXBException e) {
             assert false : "Unexpected exception " + e.getMessage();
+        } finally {
+            Files.deleteIfExists(tempFile.toPath());
         }
     }
 
     /**
      * Returns TaskMan in the file or an empty task man
+     *
+     * @throws DataConversionException if the file is not in the correct format, or was saved in a newer
+     *                                 format version than this version of the app can read.
      */
     public static XmlSerializableTaskMan loadDataFromSaveFile(File file) throws DataConversionException,
             FileNotFoundException {
+        XmlSerializableTaskMan data;
         try {
-            return XmlUtil.getDataFromFile(file, XmlSerializableTaskMan.class);
+            data = XmlUtil.getDataFromFile(file, XmlSerializableTaskMan.class);
         } catch (JAXBException e) {
             throw new DataConversionException(e);
         }
+        data.checkFormatVersion();
+        return data;
+    }
+
+    /**
+     * Returns TaskMan in the file, reading the saved activities without unmarshalling the whole file first.
+     * The saved activities are converted by the {@link ActivityLoadPipeline} a chunk at a time as they are read,
+     * so only the converted activities and one chunk of saved activities are held in memory.
+     * Activities which cannot be converted are skipped, as in {@link XmlSerializableTaskMan}.
+     *
+     * @throws DataConversionException if the file is not in the correct format, or was saved in a newer
+     *                                 format version than this version of the app can read.
+     */
+    public static TaskMan loadTaskManFromSaveFile(File file) throws DataConversionException,
+            FileNotFoundException {
+        SavedActivities saved = new SavedActivities();
+        try {
+            XmlUtil.getElementsFromFile(file, saved::getReaders);
+        } catch (JAXBException e) {
+            throw new DataConversionException(e);
+        }
+
+        TaskMan taskMan = new TaskMan();
+        taskMan.setActivities(saved.getActivities());
+        return taskMan;
+    }
+
+    static Activity taskToActivity(XmlAdaptedTask savedTask, int formatVersion) throws IllegalValueException {
+        return new Activity(savedTask.toModelType(formatVersion));
+    }
+
+    static Activity eventToActivity(XmlAdaptedEvent savedEvent, int formatVersion) throws IllegalValueException {
+        return new Activity(savedEvent.toModelType(formatVersion));
+    }
+
+    /**
+     * Converts the tasks and events of a file as they are read, as saved in the format version of the file
+     */
+    private static class SavedActivities {
+        private ActivityLoadPipeline.ChunkedConverter<XmlAdaptedTask> tasks;
+        private ActivityLoadPipeline.ChunkedConverter<XmlAdaptedEvent> events;
+
+        Map<String, XmlUtil.ElementReader<?>> getReaders(Map<String, String> rootAttributes) throws JAXBException {
+            int formatVersion;
+            try {
+                formatVersion = XmlSerializableTaskMan.toFormatVersion(
+                        rootAttributes.get(XmlSerializableTaskMan.ATTRIBUTE_VERSION));
+            } catch (DataConversionException e) {
+                throw new JAXBException(e.getCause().getMessage(), e);
+            }
+            if (formatVersion < XmlSerializableTaskMan.CURRENT_FORMAT_VERSION) {
+                logger.fine("Converting datetimes of format version " + formatVersion + " data");
+            }
+
+            tasks = new ActivityLoadPipeline.ChunkedConverter<>(task -> taskToActivity(task, formatVersion));
+            events = new ActivityLoadPipeline.ChunkedConverter<>(event -> eventToActivity(event, formatVersion));
+            Map<String, XmlUtil.ElementReader<?>> readers = new HashMap<>();
+            readers.put(XmlSerializableTaskMan.ELEMENT_TASK, new XmlUtil.ElementReader<>(XmlAdaptedTask.class, tasks));
+            readers.put(XmlSerializableTaskMan.ELEMENT_EVENT,
+                    new XmlUtil.ElementReader<>(XmlAdaptedEvent.class, events));
+            return readers;
+        }
+
+        /**
+         * Returns the converted activities without duplicates, tasks before events like in XmlSerializableTaskMan
+         */
+        List<Activity> getActivities() {
+            assert tasks != null && events != null : "The root element has not been read";
+            List<Activity> activities = new ArrayList<>(tasks.getConverted());
+            activities.addAll(events.getConverted());
+            return ActivityLoadPipeline.withoutDuplicates(activities);
+        }
     }
 
 }
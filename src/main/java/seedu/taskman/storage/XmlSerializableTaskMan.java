@@ -1,13 +1,16 @@
 package seedu.taskman.storage;
 
 import seedu.taskman.commons.core.LogsCenter;
+import seedu.taskman.commons.exceptions.DataConversionException;
 import seedu.taskman.commons.exceptions.IllegalValueException;
 import seedu.taskman.model.ReadOnlyTaskMan;
 import seedu.taskman.model.event.Activity;
 import seedu.taskman.model.event.UniqueActivityList;
 
+import javax.xml.bind.annotation.XmlAttribute;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
+import javax.xml.bind.annotation.XmlTransient;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -20,12 +23,27 @@ import java.util.stream.Collectors;
 @XmlRootElement(name = "taskMan")
 public class XmlSerializableTaskMan implements ReadOnlyTaskMan {
 
+    /**
+     * Version 1 stores datetimes as formal strings, version 2 stores them as epoch seconds.
+     * Files without a version are version 1. Files of a newer version than this are not read.
+     */
+    public static final int CURRENT_FORMAT_VERSION = 2;
+    public static final int LEGACY_FORMAT_VERSION = 1;
+    public static final String ATTRIBUTE_VERSION = "version";
+
     private static final Logger logger = LogsCenter.getLogger(XmlSerializableTaskMan.class);
 
-    @XmlElement
+    public static final String ELEMENT_EVENT = "events";
+    public static final String ELEMENT_TASK = "tasks";
+
+    @XmlAttribute(name = ATTRIBUTE_VERSION)
+    private Integer version;
+    @XmlElement(name = ELEMENT_EVENT)
     private List<XmlAdaptedEvent> events;
-    @XmlElement
+    @XmlElement(name = ELEMENT_TASK)
     private List<XmlAdaptedTask> tasks;
+    @XmlTransient
+    private List<Activity> activities;
 
     {
         events = new ArrayList<>();
@@ -44,6 +62,7 @@ public class XmlSerializableTaskMan implements ReadOnlyTaskMan {
      * for loading in TaskMan.
      */
     public XmlSerializableTaskMan(ReadOnlyTaskMan src) {
+        version = CURRENT_FORMAT_VERSION;
         events.addAll(src.getActivityList().stream().filter(activity ->
                                                                 activity.getType().equals(Activity.ActivityType.EVENT)
                                                             ).map(XmlAdaptedEvent::new).collect(Collectors.toList()));
@@ -53,29 +72,67 @@ public class XmlSerializableTaskMan implements ReadOnlyTaskMan {
     }
     //@@author
 
+    public int getFormatVersion() {
+        return version == null ? LEGACY_FORMAT_VERSION : version;
+    }
+
+    /**
+     * Throws if this version of the app cannot read data of the format version the data was saved in
+     */
+    public void checkFormatVersion() throws DataConversionException {
+        checkFormatVersion(getFormatVersion());
+    }
+
+    /**
+     * Returns the format version given by the version attribute of saved data, which may be missing
+     *
+     * @throws DataConversionException if the version is not a number, or is newer than this version of the app
+     */
+    public static int toFormatVersion(String versionAttribute) throws DataConversionException {
+        if (versionAttribute == null) {
+            return LEGACY_FORMAT_VERSION;
+        }
+        int formatVersion;
+        try {
+            formatVersion = Integer.parseInt(versionAttribute.trim());
+        } catch (NumberFormatException e) {
+            throw new DataConversionException(e);
+        }
+        checkFormatVersion(formatVersion);
+        return formatVersion;
+    }
+
+    private static void checkFormatVersion(int formatVersion) throws DataConversionException {
+        if (formatVersion < LEGACY_FORMAT_VERSION || formatVersion > CURRENT_FORMAT_VERSION) {
+            throw new DataConversionException(new IllegalValueException(
+                    "Data file format version " + formatVersion + " is not supported"));
+        }
+    }
+
     @Override
     public UniqueActivityList getUniqueActivityList() {
         UniqueActivityList lists = new UniqueActivityList();
-        for (XmlAdaptedTask task : tasks) {
-            try {
-                lists.add(new Activity(task.toModelType()));
-            } catch (IllegalValueException e) {
-                logger.info(LogsCenter.getConversionFailedMessage(task.toString()));
-            }
-        }
-        for (XmlAdaptedEvent event : events) {
-            try {
-                lists.add(new Activity(event.toModelType()));
-            } catch (IllegalValueException e) {
-                logger.info(LogsCenter.getConversionFailedMessage(event.toString()));
-            }
-        }
+        lists.getInternalList().setAll(getActivityList());
         return lists;
     }
 
+    /**
+     * The saved activities are converted the first time they are requested
+     */
     @Override
     public List<Activity> getActivityList() {
-        return Collections.unmodifiableList(getUniqueActivityList().getInternalList());
+        if (activities == null) {
+            if (getFormatVersion() < CURRENT_FORMAT_VERSION) {
+                logger.fine("Converting datetimes of format version " + getFormatVersion() + " data");
+            }
+            int formatVersion = getFormatVersion();
+            List<Activity> converted = new ArrayList<>(ActivityLoadPipeline.convertAll(tasks,
+                    task -> XmlFileStorage.taskToActivity(task, formatVersion)));
+            converted.addAll(ActivityLoadPipeline.convertAll(events,
+                    event -> XmlFileStorage.eventToActivity(event, formatVersion)));
+            activities = Collections.unmodifiableList(ActivityLoadPipeline.withoutDuplicates(converted));
+        }
+        return activities;
     }
 
 }
@@ -2,7 +2,6 @@ package seedu.taskman.storage;
 
 import seedu.taskman.commons.core.LogsCenter;
 import seedu.taskman.commons.exceptions.DataConversionException;
-import seedu.taskman.commons.util.FileUtil;
 import seedu.taskman.model.ReadOnlyTaskMan;
 
 import java.io.File;
@@ -44,7 +43,7 @@ public class XmlTaskManStorage implements TaskManStorage {
             return Optional.empty();
         }
 
-        ReadOnlyTaskMan taskManOptional = XmlFileStorage.loadDataFromSaveFile(new File(filePath));
+        ReadOnlyTaskMan taskManOptional = XmlFileStorage.loadTaskManFromSaveFile(new File(filePath));
 
         return Optional.of(taskManOptional);
     }
@@ -58,9 +57,7 @@ public class XmlTaskManStorage implements TaskManStorage {
         assert taskMan != null;
         assert filePath != null;
 
-        File file = new File(filePath);
-        FileUtil.createIfMissing(file);
-        XmlFileStorage.saveDataToFile(file, new XmlSerializableTaskMan(taskMan));
+        XmlFileStorage.saveDataToFile(new File(filePath), new XmlSerializableTaskMan(taskMan));
     }
 
     @Override
@@ -2,17 +2,24 @@ package seedu.taskman.ui;
 
 import javafx.scene.control.ListCell;
 import seedu.taskman.model.event.Activity;
+import seedu.taskman.ui.activitycard.ActivityCard;
 import seedu.taskman.ui.activitycard.ActivityCardLoader;
 
+import java.time.Instant;
+
 /**
  * Created by YiMin on 26/10/2016.
  */
 public class ActivityListViewCell extends ListCell<Activity> {
 
     private final Activity.PanelType panelType;
+    private final CellRefreshScheduler refreshScheduler;
+    // loaded with the first activity shown, then reused for every activity shown in this cell
+    private ActivityCard card;
 
-    public ActivityListViewCell(Activity.PanelType panelType){
+    public ActivityListViewCell(Activity.PanelType panelType, CellRefreshScheduler refreshScheduler){
         this.panelType = panelType;
+        this.refreshScheduler = refreshScheduler;
     }
 
     @Override
@@ -20,11 +27,28 @@ public class ActivityListViewCell extends ListCell<Activity> {
         super.updateItem(activity, empty);
 
         if (empty || activity == null) {
+            refreshScheduler.cancel(this);
             setGraphic(null);
             setText(null);
         } else {
-            setGraphic(ActivityCardLoader.load(activity, panelType, getIndex() + 1).getLayout());
+            showCard(activity);
+        }
+    }
+
+    /**
+     * Shows the activity on the card of this cell, and shows it again when the card would look different
+     */
+    private void showCard(Activity activity) {
+        if (card == null) {
+            card = ActivityCardLoader.load(panelType);
         }
+        card.bind(activity, getIndex() + 1);
+        setGraphic(card.getLayout());
+        refreshScheduler.schedule(this, card.getNextDisplayChange(Instant.now().getEpochSecond()), () -> {
+            if (getItem() == activity) {
+                showCard(activity);
+            }
+        });
     }
 
 }
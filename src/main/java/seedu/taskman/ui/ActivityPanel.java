@@ -1,6 +1,5 @@
 package seedu.taskman.ui;
 
-import com.sun.javafx.scene.control.skin.ListViewSkin;
 import javafx.application.Platform;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
@@ -14,12 +13,6 @@ import seedu.taskman.commons.events.ui.TaskPanelSelectionChangedEvent;
 import seedu.taskman.commons.util.FxViewUtil;
 import seedu.taskman.model.event.Activity;
 
-import java.time.LocalDateTime;
-import java.time.ZoneOffset;
-import java.time.temporal.ChronoUnit;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.TimeUnit;
 import java.util.logging.Logger;
 //@@author A0140136W
 
@@ -32,7 +25,7 @@ public class ActivityPanel extends UiPart {
     private AnchorPane panel;
     private AnchorPane placeHolderPane;
     private Activity.PanelType panelType;
-    private ScheduledExecutorService refreshService;
+    private CellRefreshScheduler refreshScheduler;
 
     @FXML
     private ListView<Activity> listView;
@@ -55,16 +48,21 @@ public class ActivityPanel extends UiPart {
         this.placeHolderPane = pane;
     }
 
+    /**
+     * @param refreshScheduler redraws the cards whose look changes with time, and can be shared between panels
+     */
     public static ActivityPanel load(Stage primaryStage, AnchorPane taskListPlaceholder,
-                                     ObservableList<Activity> taskList, Activity.PanelType panelType) {
+                                     ObservableList<Activity> taskList, Activity.PanelType panelType,
+                                     CellRefreshScheduler refreshScheduler) {
         ActivityPanel activityPanel =
                 UiPartLoader.loadUiPart(primaryStage, taskListPlaceholder, new ActivityPanel());
-        activityPanel.configure(taskList, panelType);
+        activityPanel.configure(taskList, panelType, refreshScheduler);
         return activityPanel;
     }
 
-    private void configure(ObservableList<Activity> taskList, Activity.PanelType panelType) {
-        refreshService = createRefreshService();
+    private void configure(ObservableList<Activity> taskList, Activity.PanelType panelType,
+                           CellRefreshScheduler refreshScheduler) {
+        this.refreshScheduler = refreshScheduler;
         this.panelType = panelType;
         setConnections(taskList);
         addToPlaceholder();
@@ -72,25 +70,9 @@ public class ActivityPanel extends UiPart {
         titledPane.setText(panelType.getName());
     }
 
-    private ScheduledExecutorService createRefreshService() {
-        RefreshListViewSkin<Activity> skin = new RefreshListViewSkin<>(listView);
-        listView.setSkin(skin);
-
-        ScheduledExecutorService service = Executors.newScheduledThreadPool(1);
-        Runnable invalidateListView = skin::refresh;
-        service.scheduleAtFixedRate(invalidateListView, secondsToNextMinute(), 60, TimeUnit.SECONDS);
-        return service;
-    }
-
-    private long secondsToNextMinute() {
-        LocalDateTime now = LocalDateTime.now();
-        LocalDateTime roundCeiling = now.truncatedTo(ChronoUnit.MINUTES).plusMinutes(1);
-        return roundCeiling.toEpochSecond(ZoneOffset.UTC) - now.toEpochSecond(ZoneOffset.UTC);
-    }
-
     private void setConnections(ObservableList<Activity> taskList) {      
         listView.setItems(taskList);
-        listView.setCellFactory(listView -> new ActivityListViewCell(panelType));
+        listView.setCellFactory(listView -> new ActivityListViewCell(panelType, refreshScheduler));
         setEventHandlerForSelectionChangeEvent();
     }
 
@@ -129,22 +111,4 @@ public class ActivityPanel extends UiPart {
         });
     }
 
-
-    /**
-     * ListViewSkin for refreshing the ListView it is binded to
-     */
-    private static class RefreshListViewSkin<T> extends ListViewSkin<T> {
-
-        public RefreshListViewSkin(ListView<T> list) {
-            super(list);
-        }
-
-        /**
-         * Refreshes the list view using an undocumented public command
-         * Refer to http://stackoverflow.com/a/25962110 for more info
-         */
-        public void refresh() {
-            super.flow.rebuildCells();
-        }
-    }
 }
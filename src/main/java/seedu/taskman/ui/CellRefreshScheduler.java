@@ -0,0 +1,104 @@
+package seedu.taskman.ui;
+
+import javafx.application.Platform;
+
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Refreshes parts of the display at the moments they change, such as when a deadline passes.
+ * <p>
+ * Each owner, usually a list cell, has at most one refresh pending. Refreshes are kept in order of time
+ * and run on the JavaFX thread, so only what changes is redrawn, when it changes.
+ * All methods must be called on the JavaFX thread.
+ */
+public class CellRefreshScheduler {
+
+    private final PriorityQueue<PendingRefresh> queue =
+            new PriorityQueue<>(Comparator.comparingLong(refresh -> refresh.epochSecond));
+    private final Map<Object, PendingRefresh> pendingByOwner = new HashMap<>();
+    private final ScheduledExecutorService timer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "TaskMan display refresh");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private ScheduledFuture<?> wakeUp;
+    private long wakeUpEpochSecond = Long.MAX_VALUE;
+
+    /**
+     * Runs the refresh at the given time, replacing the refresh pending for the owner, if any.
+     * Nothing is scheduled if the time is {@link Long#MAX_VALUE}.
+     */
+    public void schedule(Object owner, long epochSecond, Runnable refresh) {
+        cancel(owner);
+        if (epochSecond == Long.MAX_VALUE) {
+            return;
+        }
+        PendingRefresh pending = new PendingRefresh(owner, epochSecond, refresh);
+        pendingByOwner.put(owner, pending);
+        queue.add(pending);
+        if (epochSecond < wakeUpEpochSecond) {
+            scheduleWakeUp();
+        }
+    }
+
+    /**
+     * Discards the refresh pending for the owner, if any
+     */
+    public void cancel(Object owner) {
+        PendingRefresh pending = pendingByOwner.remove(owner);
+        if (pending != null) {
+            queue.remove(pending);
+        }
+    }
+
+    public void stop() {
+        timer.shutdownNow();
+    }
+
+    private void scheduleWakeUp() {
+        if (wakeUp != null) {
+            wakeUp.cancel(false);
+        }
+        PendingRefresh next = queue.peek();
+        if (next == null) {
+            wakeUpEpochSecond = Long.MAX_VALUE;
+            return;
+        }
+        wakeUpEpochSecond = next.epochSecond;
+        long delayMillis = TimeUnit.SECONDS.toMillis(next.epochSecond) - System.currentTimeMillis();
+        wakeUp = timer.schedule(() -> Platform.runLater(this::runDueRefreshes),
+                Math.max(0, delayMillis), TimeUnit.MILLISECONDS);
+    }
+
+    private void runDueRefreshes() {
+        long now = Instant.now().getEpochSecond();
+        while (!queue.isEmpty() && queue.peek().epochSecond <= now) {
+            PendingRefresh due = queue.poll();
+            pendingByOwner.remove(due.owner);
+            // the refresh may schedule the next refresh of its owner
+            due.refresh.run();
+        }
+        scheduleWakeUp();
+    }
+
+    private static class PendingRefresh {
+        private final Object owner;
+        private final long epochSecond;
+        private final Runnable refresh;
+
+        PendingRefresh(Object owner, long epochSecond, Runnable refresh) {
+            this.owner = owner;
+            this.epochSecond = epochSecond;
+            this.refresh = refresh;
+        }
+    }
+}
@@ -18,6 +18,7 @@ import java.util.logging.Logger;
 public class CommandBox extends UiPart {
     private final Logger logger = LogsCenter.getLogger(CommandBox.class);
     private static final String FXML = "CommandBox.fxml";
+    private static final String PROMPT_LOADING = "Loading data...";
 
     private AnchorPane placeHolderPane;
     private AnchorPane commandPane;
@@ -29,6 +30,7 @@ public class CommandBox extends UiPart {
     @FXML
     private TextField commandTextField;
     private CommandResult mostRecentResult;
+    private String readyPromptText;
 
     public static CommandBox load(Stage primaryStage, AnchorPane commandBoxPlaceholder,
                                   ResultDisplay resultDisplay, Logic logic) {
@@ -60,6 +62,24 @@ public class CommandBox extends UiPart {
         commandPane = (AnchorPane) node;
     }
 
+    /**
+     * Disables the command box while the data is being loaded
+     */
+    public void setLoading(boolean isLoading) {
+        if (isLoading == commandTextField.isDisabled()) {
+            return;
+        }
+        if (isLoading) {
+            readyPromptText = commandTextField.getPromptText();
+            commandTextField.setPromptText(PROMPT_LOADING);
+            commandTextField.setDisable(true);
+        } else {
+            commandTextField.setPromptText(readyPromptText);
+            commandTextField.setDisable(false);
+            commandTextField.requestFocus();
+        }
+    }
+
     @Override
     public String getFxmlPath() {
         return FXML;
@@ -23,7 +23,9 @@ import seedu.taskman.logic.commands.ExitCommand;
 import seedu.taskman.logic.commands.HelpCommand;
 import seedu.taskman.logic.commands.HistoryCommand;
 import seedu.taskman.logic.commands.ListCommand;
+import seedu.taskman.logic.commands.ScriptCommand;
 import seedu.taskman.logic.commands.SelectCommand;
+import seedu.taskman.logic.commands.StatsCommand;
 import seedu.taskman.logic.commands.StoragelocCommand;
 import seedu.taskman.logic.commands.TagsCommand;
 import seedu.taskman.logic.commands.UndoCommand;
@@ -51,7 +53,9 @@ public class HelpWindow extends UiPart {
                                                   new HelpTableViewRow(HelpCommand.COMMAND_WORD, HelpCommand.MESSAGE_USAGE),
                                                   new HelpTableViewRow(HistoryCommand.COMMAND_WORD, HistoryCommand.MESSAGE_USAGE),
                                                   new HelpTableViewRow(ListCommand.COMMAND_WORD, ListCommand.MESSAGE_USAGE),
+                                                  new HelpTableViewRow(ScriptCommand.COMMAND_WORD, ScriptCommand.MESSAGE_USAGE),
                                                   new HelpTableViewRow(SelectCommand.COMMAND_WORD, SelectCommand.MESSAGE_USAGE),
+                                                  new HelpTableViewRow(StatsCommand.COMMAND_WORD, StatsCommand.MESSAGE_USAGE),
                                                   new HelpTableViewRow(StoragelocCommand.COMMAND_WORD, StoragelocCommand.MESSAGE_USAGE),
                                                   new HelpTableViewRow(TagsCommand.COMMAND_WORD, TagsCommand.MESSAGE_USAGE),
                                                   new HelpTableViewRow(UndoCommand.COMMAND_WORD, UndoCommand.MESSAGE_USAGE));
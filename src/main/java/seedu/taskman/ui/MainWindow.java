@@ -36,6 +36,7 @@ public class MainWindow extends UiPart {
     private ActivityPanel schedulePanel;
     private ActivityPanel deadlinePanel;
     private ActivityPanel floatingPanel;
+    private final CellRefreshScheduler refreshScheduler = new CellRefreshScheduler();
     private ResultDisplay resultDisplay;
     private StatusBarFooter statusBarFooter;
     private CommandBox commandBox;
@@ -132,9 +133,9 @@ public class MainWindow extends UiPart {
     //@@author
 
     void fillInnerParts() {
-        schedulePanel = ActivityPanel.load(primaryStage, getSchedulePanelPlaceholder(), logic.getSortedScheduleList(), Activity.PanelType.SCHEDULE);
-        deadlinePanel = ActivityPanel.load(primaryStage, getDeadlinePanelPlaceholder(), logic.getSortedDeadlineList(), Activity.PanelType.DEADLINE);
-        floatingPanel = ActivityPanel.load(primaryStage, getFloatingPanelPlaceholder(), logic.getSortedFloatingList(), Activity.PanelType.FLOATING);
+        schedulePanel = ActivityPanel.load(primaryStage, getSchedulePanelPlaceholder(), logic.getSortedScheduleList(), Activity.PanelType.SCHEDULE, refreshScheduler);
+        deadlinePanel = ActivityPanel.load(primaryStage, getDeadlinePanelPlaceholder(), logic.getSortedDeadlineList(), Activity.PanelType.DEADLINE, refreshScheduler);
+        floatingPanel = ActivityPanel.load(primaryStage, getFloatingPanelPlaceholder(), logic.getSortedFloatingList(), Activity.PanelType.FLOATING, refreshScheduler);
         resultDisplay = ResultDisplay.load(primaryStage, getResultDisplayPlaceholder());
         statusBarFooter = StatusBarFooter.load(primaryStage, getStatusbarPlaceholder(), config.getTaskManFilePath());
         commandBox = CommandBox.load(primaryStage, getCommandBoxPlaceholder(), resultDisplay, logic);
@@ -165,7 +166,16 @@ public class MainWindow extends UiPart {
         return floatingPanelPlaceholder;
     }
 
+    /**
+     * Shows whether the data is still being loaded. Commands cannot be entered while it is.
+     */
+    public void setLoading(boolean isLoading) {
+        commandBox.setLoading(isLoading);
+        statusBarFooter.setLoading(isLoading);
+    }
+
     public void hide() {
+        refreshScheduler.stop();
         primaryStage.hide();
     }
 
@@ -64,6 +64,13 @@ public class StatusBarFooter extends UiPart {
         saveLocStatusBarPane.getChildren().add(saveLocationStatus);
     }
 
+    /**
+     * Shows that the data is being loaded, or that it has not been updated since it was loaded
+     */
+    public void setLoading(boolean isLoading) {
+        setSyncStatus(isLoading ? "Loading data..." : "Not updated yet in this session");
+    }
+
     private void setSyncStatus(String status) {
         this.syncStatus.setText(status);
     }
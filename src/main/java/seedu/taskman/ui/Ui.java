@@ -12,6 +12,11 @@ public interface Ui {
      */
     void start(Stage primaryStage);
 
+    /**
+     * Shows whether the data is still being loaded. Commands cannot be entered while it is.
+     */
+    void setLoading(boolean isLoading);
+
     /**
      * Stops the UI.
      */
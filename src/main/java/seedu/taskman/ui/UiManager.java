@@ -9,6 +9,7 @@ import javafx.stage.Stage;
 import seedu.taskman.Constants;
 import seedu.taskman.MainApp;
 import seedu.taskman.commons.core.ComponentManager;
+import seedu.taskman.commons.core.EventsCenter;
 import seedu.taskman.commons.core.config.Config;
 import seedu.taskman.commons.core.LogsCenter;
 import seedu.taskman.commons.events.storage.DataSavingExceptionEvent;
@@ -34,7 +35,7 @@ public class UiManager extends ComponentManager implements Ui {
     private MainWindow mainWindow;
 
     public UiManager(Logic logic, Config config, UserPrefs prefs) {
-        super();
+        super(EventsCenter.getInstance(), EventsCenter.DispatchLane.FX);
         this.logic = logic;
         this.config = config;
         this.prefs = prefs;
@@ -59,6 +60,13 @@ public class UiManager extends ComponentManager implements Ui {
         }
     }
 
+    @Override
+    public void setLoading(boolean isLoading) {
+        if (mainWindow != null) {
+            mainWindow.setLoading(isLoading);
+        }
+    }
+
     @Override
     public void stop() {
         prefs.updateLastUsedGuiSetting(mainWindow.getCurrentGuiSetting());
@@ -3,15 +3,18 @@ package seedu.taskman.ui.activitycard;
 import javafx.fxml.FXML;
 import javafx.scene.Node;
 import javafx.scene.control.Label;
-import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.FlowPane;
 import javafx.scene.layout.GridPane;
 import seedu.taskman.Constants;
+import seedu.taskman.commons.util.AppUtil;
 import seedu.taskman.model.event.Activity;
 import seedu.taskman.model.tag.Tag;
 import seedu.taskman.ui.UiPart;
 
+import java.util.ArrayList;
+import java.util.List;
+
 //@@author A0121299A
 /**
  * Small card panel which displays a single Activity object.
@@ -35,27 +38,51 @@ public class ActivityCard extends UiPart {
 
     protected Activity activity;
     protected int displayedIndex;
+    private final List<Label> tagLabels = new ArrayList<>();
 
     @Override
     public void setNode(Node node) {
         cardPane = (GridPane) node;
     }
 
-    @FXML
-    public void initialize() {
+    /**
+     * Shows the given activity on this card, replacing the activity shown before, if any.
+     * The nodes of the card are reused, so a card can be moved from one activity to another cheaply.
+     */
+    public void bind(Activity activity, int displayedIndex) {
+        this.activity = activity;
+        this.displayedIndex = displayedIndex;
         title.setText(activity.getTitle().toString());
         id.setText(displayedIndex + "");
-        for (Tag tag : activity.getTags()) {
-            tagsFlowPane.getChildren().add(new Label(tag.toString()));
-        }
+        showTags();
         value.setText("");
         setColours();
     }
 
+    /**
+     * Shows a label per tag, reusing the labels created for the tags shown before
+     */
+    private void showTags() {
+        int tagCount = 0;
+        for (Tag tag : activity.getTags()) {
+            if (tagCount == tagLabels.size()) {
+                tagLabels.add(new Label());
+            }
+            tagLabels.get(tagCount).setText(tag.toString());
+            tagCount++;
+        }
+        tagsFlowPane.getChildren().setAll(tagLabels.subList(0, tagCount));
+    }
+
     /**
      * Setting colours and styling to the card
      */
     protected void setColours() {
+        for (Constants.TextStyle style : Constants.TextStyle.values()) {
+            title.getStyleClass().remove(style.getStyleClass());
+        }
+        icon.setImage(null);
+
         switch (activity.getType()) {
             case EVENT: {
                 break;
@@ -67,18 +94,18 @@ public class ActivityCard extends UiPart {
                         && !activity.getStatus().get().completed) {
                     //if overdue
                     title.getStyleClass().add(Constants.TextStyle.RED.getStyleClass());
-                    icon.setImage(new Image(Constants.Icon.OVERDUE.getPath()));
+                    icon.setImage(AppUtil.getImage(Constants.Icon.OVERDUE.getPath()));
                     break;
                 }
 
                 if (activity.getStatus().get().completed) {
                     //if completed
                     title.getStyleClass().add(Constants.TextStyle.GREEN.getStyleClass());
-                    icon.setImage(new Image(Constants.Icon.COMPLETE.getPath()));
+                    icon.setImage(AppUtil.getImage(Constants.Icon.COMPLETE.getPath()));
                 } else {
                     //if not completed
                     title.getStyleClass().add(Constants.TextStyle.AMBER.getStyleClass());
-                    icon.setImage(new Image(Constants.Icon.INCOMPLETE.getPath()));
+                    icon.setImage(AppUtil.getImage(Constants.Icon.INCOMPLETE.getPath()));
                 }
             }
             default: {
@@ -87,6 +114,21 @@ public class ActivityCard extends UiPart {
         }
     }
 
+    /**
+     * Returns the epoch second, after {@code nowEpochSecond}, from which the card would look different,
+     * or {@link Long#MAX_VALUE} if it will always look the same.
+     * An incomplete task turns overdue when its deadline passes.
+     */
+    public long getNextDisplayChange(long nowEpochSecond) {
+        boolean canTurnOverdue = activity.getType() == Activity.ActivityType.TASK
+                && activity.getDeadline().isPresent()
+                && activity.getDeadline().get().epochSecond > nowEpochSecond
+                && !activity.getStatus().get().completed;
+        return canTurnOverdue
+                ? activity.getDeadline().get().epochSecond
+                : Long.MAX_VALUE;
+    }
+
     public GridPane getLayout() {
         return cardPane;
     }
@@ -10,14 +10,13 @@ import seedu.taskman.ui.UiPartLoader;
 public class ActivityCardLoader {
 
     /**
-     * Constructs the appropriate ActivityCard given the panelType
+     * Constructs the appropriate ActivityCard given the panelType, without any activity shown on it yet.
+     * Activities are shown with {@link ActivityCard#bind(Activity, int)}.
      *
-     * @param activity       to be represented
-     * @param panelType      of the Panel
-     * @param displayedIndex of the activity in the panel
+     * @param panelType of the Panel
      * @return the ActivityCard corresponding to the panelType
      */
-    public static ActivityCard load(Activity activity, Activity.PanelType panelType, int displayedIndex) {
+    public static ActivityCard load(Activity.PanelType panelType) {
         ActivityCard card = new ActivityCard();
         if (panelType != null) {
             switch (panelType) {
@@ -38,8 +37,6 @@ public class ActivityCardLoader {
                 }
             }
         }
-        card.activity = activity;
-        card.displayedIndex = displayedIndex;
         return UiPartLoader.loadUiPart(card);
     }
-}
\ No newline at end of file
+}
@@ -1,7 +1,6 @@
 package seedu.taskman.ui.activitycard;
 
 import seedu.taskman.model.event.Activity;
-import javafx.fxml.FXML;
 
 
 //@@author A0121299A
@@ -10,12 +9,42 @@ import javafx.fxml.FXML;
  */
 public class DeadlineActivityCard extends ActivityCard {
 
+    // minute, hour, day, week, month and year, as measured when formatting the relative time
+    private static final long[] RELATIVE_TIME_UNIT_SECONDS = {60, 3600, 86400, 604800, 2629744, 31556926};
+
     @Override
-    @FXML
-    public void initialize() {
-        super.initialize();
+    public void bind(Activity activity, int displayedIndex) {
+        super.bind(activity, displayedIndex);
         id.setText(Activity.PanelType.DEADLINE.getString() + displayedIndex);
         value.setText(activity.getDeadline().get().toString());
-        setColours();
+    }
+
+    /**
+     * The card also shows how long until the deadline, which changes as time passes.
+     */
+    @Override
+    public long getNextDisplayChange(long nowEpochSecond) {
+        return Math.min(super.getNextDisplayChange(nowEpochSecond),
+                getNextRelativeTimeChange(activity.getDeadline().get().epochSecond, nowEpochSecond));
+    }
+
+    /**
+     * The time until or since the deadline is shown in the largest unit which fits it, rounded.
+     * So the text can only change when the time left crosses a multiple of half that unit.
+     * The result is a second later, so that the text has surely changed.
+     */
+    private static long getNextRelativeTimeChange(long deadlineEpochSecond, long nowEpochSecond) {
+        long step = getRelativeTimeUnitSeconds(Math.abs(deadlineEpochSecond - nowEpochSecond)) / 2;
+        long untilStepBoundary = Math.floorMod(deadlineEpochSecond - nowEpochSecond, step);
+        return nowEpochSecond + (untilStepBoundary == 0 ? step : untilStepBoundary) + 1;
+    }
+
+    private static long getRelativeTimeUnitSeconds(long distanceSeconds) {
+        for (int i = RELATIVE_TIME_UNIT_SECONDS.length - 1; i > 0; i--) {
+            if (distanceSeconds >= RELATIVE_TIME_UNIT_SECONDS[i]) {
+                return RELATIVE_TIME_UNIT_SECONDS[i];
+            }
+        }
+        return RELATIVE_TIME_UNIT_SECONDS[0];
     }
 }
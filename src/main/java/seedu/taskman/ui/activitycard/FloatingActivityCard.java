@@ -1,7 +1,6 @@
 package seedu.taskman.ui.activitycard;
 
 import seedu.taskman.model.event.Activity;
-import javafx.fxml.FXML;
 
 //@@author A0121299A
 /**
@@ -10,9 +9,8 @@ import javafx.fxml.FXML;
 public class FloatingActivityCard extends ActivityCard {
 
     @Override
-    @FXML
-    public void initialize() {
-        super.initialize();
+    public void bind(Activity activity, int displayedIndex) {
+        super.bind(activity, displayedIndex);
         id.setText(Activity.PanelType.FLOATING.getString() + displayedIndex);
     }
 }
@@ -1,7 +1,6 @@
 package seedu.taskman.ui.activitycard;
 
 import seedu.taskman.model.event.Activity;
-import javafx.fxml.FXML;
 
 
 //@@author A0121299A
@@ -11,9 +10,8 @@ import javafx.fxml.FXML;
 public class ScheduleActivityCard extends ActivityCard {
 
     @Override
-    @FXML
-    public void initialize() {
-        super.initialize();
+    public void bind(Activity activity, int displayedIndex) {
+        super.bind(activity, displayedIndex);
         id.setText(Activity.PanelType.SCHEDULE.getString() + displayedIndex);
         String valueText = activity.getSchedule().isPresent()
                 ? activity.getSchedule().get().toString()
@@ -59,9 +59,13 @@ public class TestApp extends MainApp {
     }
 
 
+    /**
+     * Shows the data before returning, so that tests start with the data in place.
+     */
     @Override
     public void start(Stage primaryStage) {
         ui.start(primaryStage);
+        showInitialData(initialDataLoad.join());
     }
 
     public static void main(String[] args) {
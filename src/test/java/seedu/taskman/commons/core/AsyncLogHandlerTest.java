@@ -0,0 +1,96 @@
+package seedu.taskman.commons.core;
+
+import org.junit.Test;
+import seedu.taskman.commons.core.config.ConfigData.LogOverflowPolicy;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class AsyncLogHandlerTest {
+
+    @Test
+    public void flush_recordsPublished_allWrittenInOrder() {
+        RecordingHandler target = new RecordingHandler();
+        AsyncLogHandler handler = new AsyncLogHandler(16, LogOverflowPolicy.BLOCK, target);
+
+        for (int i = 0; i < 1000; i++) {
+            handler.publish(new LogRecord(Level.INFO, "message " + i));
+        }
+        handler.flush();
+
+        assertEquals(1000, target.messages.size());
+        for (int i = 0; i < 1000; i++) {
+            assertEquals("message " + i, target.messages.get(i));
+        }
+        assertEquals(0, handler.getDroppedCount());
+        handler.close();
+    }
+
+    @Test
+    public void publish_belowLevel_ignored() {
+        RecordingHandler target = new RecordingHandler();
+        AsyncLogHandler handler = new AsyncLogHandler(16, LogOverflowPolicy.BLOCK, target);
+        handler.setLevel(Level.WARNING);
+
+        handler.publish(new LogRecord(Level.INFO, "ignored"));
+        handler.flush();
+
+        assertTrue(target.messages.isEmpty());
+        handler.close();
+    }
+
+    @Test
+    public void publish_queueFullWithDropPolicy_recordsDroppedAndReported() throws Exception {
+        RecordingHandler target = new RecordingHandler();
+        target.blocked = new CountDownLatch(1);
+        AsyncLogHandler handler = new AsyncLogHandler(2, LogOverflowPolicy.DROP, target);
+
+        for (int i = 0; i < 10; i++) {
+            handler.publish(new LogRecord(Level.INFO, "message " + i));
+        }
+        assertTrue(handler.getDroppedCount() > 0);
+
+        target.blocked.countDown();
+        handler.publish(new LogRecord(Level.INFO, "after"));
+        handler.flush();
+
+        assertTrue(target.messages.stream().anyMatch(message -> message.contains("log records dropped")));
+        handler.close();
+    }
+
+    /**
+     * Keeps the messages written to it, after waiting until {@link #blocked} is released if it is set
+     */
+    private static class RecordingHandler extends Handler {
+        private final List<String> messages = Collections.synchronizedList(new ArrayList<>());
+        private volatile CountDownLatch blocked;
+
+        @Override
+        public void publish(LogRecord record) {
+            try {
+                if (blocked != null) {
+                    blocked.await();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            messages.add(record.getMessage());
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
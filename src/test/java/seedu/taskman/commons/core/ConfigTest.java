@@ -37,7 +37,14 @@ public class ConfigTest {
                 "Current log level : INFO\n" +
                 "Preference file Location : preferences.json\n" +
                 "Local data file location : "+ ConfigData.DEFAULT_TASK_MAN_FILE_PATH +"\n" +
-                "TaskMan name : MyTaskMan";
+                "TaskMan name : MyTaskMan\n" +
+                "Storage format : XML\n" +
+                "Save delay (ms) : " + ConfigData.DEFAULT_TASK_MAN_SAVE_DELAY_MILLIS + "\n" +
+                "Metrics file location : " + ConfigData.DEFAULT_METRICS_FILE_PATH + "\n" +
+                "Metrics dump interval (s) : " + ConfigData.DEFAULT_METRICS_DUMP_INTERVAL_SECONDS + "\n" +
+                "Log queue capacity : " + ConfigData.DEFAULT_LOG_QUEUE_CAPACITY + "\n" +
+                "Log overflow policy : " + ConfigData.DEFAULT_LOG_OVERFLOW_POLICY + "\n" +
+                "Startup report file location : " + ConfigData.DEFAULT_STARTUP_REPORT_FILE_PATH;
         Config.resetInstance();
         assertEquals(defaultConfigAsString, Config.getInstance().toString());
     }
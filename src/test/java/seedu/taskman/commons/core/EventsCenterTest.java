@@ -0,0 +1,100 @@
+package seedu.taskman.commons.core;
+
+import com.google.common.eventbus.Subscribe;
+import org.junit.After;
+import org.junit.Test;
+import seedu.taskman.commons.core.EventsCenter.DispatchLane;
+import seedu.taskman.commons.events.ui.ShowHelpRequestEvent;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+public class EventsCenterTest {
+
+    @After
+    public void teardown() {
+        EventsCenter.clearSubscribers();
+    }
+
+    @Test
+    public void post_callerLane_handledBeforeReturn() {
+        ThreadRecorder recorder = new ThreadRecorder();
+        EventsCenter.getInstance().registerHandler(recorder);
+
+        EventsCenter.getInstance().post(new ShowHelpRequestEvent());
+
+        assertEquals(Collections.singletonList(Thread.currentThread()), recorder.threads);
+    }
+
+    @Test
+    public void post_backgroundLane_handledInOrderOffCallerThread() {
+        ThreadRecorder recorder = new ThreadRecorder();
+        EventsCenter eventsCenter = EventsCenter.getInstance().registerHandler(recorder, DispatchLane.BACKGROUND);
+
+        for (int i = 0; i < 50; i++) {
+            eventsCenter.post(new ShowHelpRequestEvent());
+        }
+        eventsCenter.awaitDispatch(DispatchLane.BACKGROUND);
+
+        assertEquals(50, recorder.threads.size());
+        assertNotSame(Thread.currentThread(), recorder.threads.get(0));
+        for (Thread thread : recorder.threads) {
+            assertSame(recorder.threads.get(0), thread);
+        }
+        assertEquals(0, eventsCenter.getQueueDepth(DispatchLane.BACKGROUND));
+    }
+
+    @Test
+    public void post_anyEvent_loggedOffCallerThread() {
+        Logger logger = LogsCenter.getLogger(EventsCenter.class);
+        Level previousLevel = logger.getLevel();
+        List<Thread> loggingThreads = Collections.synchronizedList(new ArrayList<>());
+        Handler handler = new Handler() {
+            @Override
+            public void publish(LogRecord record) {
+                if (record.getMessage().contains("[Event Posted]")) {
+                    loggingThreads.add(Thread.currentThread());
+                }
+            }
+
+            @Override
+            public void flush() {
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+        logger.setLevel(Level.INFO);
+        logger.addHandler(handler);
+        try {
+            EventsCenter eventsCenter = EventsCenter.getInstance();
+            eventsCenter.post(new ShowHelpRequestEvent());
+            eventsCenter.awaitDispatch(DispatchLane.BACKGROUND);
+        } finally {
+            logger.removeHandler(handler);
+            logger.setLevel(previousLevel);
+        }
+
+        assertEquals(1, loggingThreads.size());
+        assertNotSame(Thread.currentThread(), loggingThreads.get(0));
+    }
+
+    private static class ThreadRecorder {
+        private final List<Thread> threads = Collections.synchronizedList(new ArrayList<>());
+
+        @Subscribe
+        public void handleShowHelpRequestEvent(ShowHelpRequestEvent event) {
+            threads.add(Thread.currentThread());
+        }
+    }
+}
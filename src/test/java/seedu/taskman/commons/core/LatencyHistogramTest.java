@@ -0,0 +1,48 @@
+package seedu.taskman.commons.core;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class LatencyHistogramTest {
+
+    @Test
+    public void getNanosAtPercentile_noLatencies_zero() {
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getMeanNanos());
+        assertEquals(0, histogram.getNanosAtPercentile(99));
+    }
+
+    @Test
+    public void getNanosAtPercentile_uniformLatencies_withinBucketPrecision() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long nanos = 1; nanos <= 1000000; nanos++) {
+            histogram.record(nanos);
+        }
+
+        assertEquals(1000000, histogram.getCount());
+        assertEquals(1000000, histogram.getMaxNanos());
+        assertEquals(500000, histogram.getMeanNanos());
+        assertWithinPrecision(500000, histogram.getNanosAtPercentile(50));
+        assertWithinPrecision(900000, histogram.getNanosAtPercentile(90));
+        assertWithinPrecision(990000, histogram.getNanosAtPercentile(99));
+        assertEquals(1000000, histogram.getNanosAtPercentile(100));
+    }
+
+    @Test
+    public void record_negativeLatency_countedAsZero() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(-5);
+
+        assertEquals(1, histogram.getCount());
+        assertEquals(0, histogram.getNanosAtPercentile(50));
+    }
+
+    private void assertWithinPrecision(long expected, long actual) {
+        assertTrue(actual + " is not within 12.5% of " + expected,
+                actual >= expected && actual <= expected + expected / 8);
+    }
+}
@@ -7,6 +7,7 @@ import org.junit.rules.ExpectedException;
 import seedu.taskman.Constants;
 
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
 
 public class AppUtilTest {
 
@@ -19,6 +20,11 @@ public class AppUtilTest {
         assertNotNull(AppUtil.getImage(Constants.APP_ICON_FILE_PATH));
     }
 
+    @Test
+    public void getImage_requestedTwice_sameImage() {
+        assertSame(AppUtil.getImage(Constants.APP_ICON_FILE_PATH), AppUtil.getImage(Constants.APP_ICON_FILE_PATH));
+    }
+
 
     @Test
     public void getImage_nullGiven_assertionError() {
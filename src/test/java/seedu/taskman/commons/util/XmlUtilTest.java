@@ -4,6 +4,7 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 import seedu.taskman.model.TaskMan;
+import seedu.taskman.storage.XmlAdaptedTask;
 import seedu.taskman.storage.XmlSerializableTaskMan;
 import seedu.taskman.testutil.TaskManBuilder;
 import seedu.taskman.testutil.TestUtil;
@@ -11,6 +12,10 @@ import seedu.taskman.testutil.TestUtil;
 import javax.xml.bind.JAXBException;
 import java.io.File;
 import java.io.FileNotFoundException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 
 import static org.junit.Assert.assertEquals;
 
@@ -55,6 +60,31 @@ public class XmlUtilTest {
         assertEquals(5, dataFromFile.getActivityList().size());
     }
 
+    @Test
+    public void getDataFromFile_legacyFile_legacyVersionDetected() throws Exception {
+        XmlSerializableTaskMan dataFromFile = XmlUtil.getDataFromFile(VALID_FILE, XmlSerializableTaskMan.class);
+        assertEquals(1, dataFromFile.getFormatVersion());
+    }
+
+    @Test
+    public void getElementsFromFile_emptyFile_DataFormatMismatchException() throws Exception {
+        thrown.expect(JAXBException.class);
+        XmlUtil.getElementsFromFile(EMPTY_FILE, getTaskReaders(new ArrayList<>()));
+    }
+
+    @Test
+    public void getElementsFromFile_validFile_everyElementRead() throws Exception {
+        List<XmlAdaptedTask> tasks = new ArrayList<>();
+        XmlUtil.getElementsFromFile(VALID_FILE, getTaskReaders(tasks));
+
+        assertEquals(5, tasks.size());
+    }
+
+    private Map<String, XmlUtil.ElementReader<?>> getTaskReaders(List<XmlAdaptedTask> tasks) {
+        return Collections.singletonMap(XmlSerializableTaskMan.ELEMENT_TASK,
+                new XmlUtil.ElementReader<>(XmlAdaptedTask.class, tasks::add));
+    }
+
     @Test
     public void saveDataToFile_nullFile_AssertionError() throws Exception {
         thrown.expect(AssertionError.class);
@@ -87,5 +117,6 @@ public class XmlUtilTest {
         XmlUtil.saveDataToFile(TEMP_FILE, dataToWrite);
         dataFromFile = XmlUtil.getDataFromFile(TEMP_FILE, XmlSerializableTaskMan.class);
         assertEquals(new TaskMan(dataToWrite), new TaskMan(dataFromFile));
+        assertEquals(XmlSerializableTaskMan.CURRENT_FORMAT_VERSION, dataFromFile.getFormatVersion());
     }
 }
@@ -1,6 +1,8 @@
 package seedu.taskman.logic.logicmanager;
 
 import org.junit.Test;
+import seedu.taskman.logic.LogicManager;
+import seedu.taskman.logic.commands.CommandResult;
 import seedu.taskman.logic.commands.ExitCommand;
 
 import static org.junit.Assert.assertTrue;
@@ -34,5 +36,12 @@ public class MiscCommandTests extends LogicManagerTestBase {
         );
     }
 
+    @Test
+    public void execute_stats_showsExecutedCommands() throws Exception {
+        logic.execute("help");
+        CommandResult result = assertCommandNoStateChange("stats");
+        assertTrue(result.feedbackToUser.contains("Commands executed:"));
+        assertTrue(result.feedbackToUser.contains(LogicManager.METRIC_EXECUTE_PREFIX + "HelpCommand"));
+    }
 
 }
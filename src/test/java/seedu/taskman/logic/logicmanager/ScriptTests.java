@@ -0,0 +1,123 @@
+package seedu.taskman.logic.logicmanager;
+
+import com.google.common.eventbus.Subscribe;
+import org.junit.Before;
+import org.junit.Test;
+import seedu.taskman.commons.events.model.TaskManChangedEvent;
+import seedu.taskman.logic.commands.BatchCommand;
+import seedu.taskman.logic.commands.CommandResult;
+import seedu.taskman.logic.commands.ScriptCommand;
+import seedu.taskman.logic.commands.UndoCommand;
+import seedu.taskman.model.TaskMan;
+import seedu.taskman.model.event.Task;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class ScriptTests extends LogicManagerTestBase {
+    private TestDataHelper helper;
+    private int changeEventCount;
+
+    @Subscribe
+    private void countChangeEvents(TaskManChangedEvent event) {
+        changeEventCount++;
+    }
+
+    @Before
+    public void initHelper() {
+        helper = new TestDataHelper();
+        changeEventCount = 0;
+    }
+
+    @Test
+    public void executeBatch_allSucceed_oneSaveAndOneHistoryEntry() throws Exception {
+        List<Task> tasks = helper.generateFullTaskList(3);
+        List<String> commands = new ArrayList<>();
+        for (Task task : tasks) {
+            commands.add(helper.generateAddCommand(task));
+        }
+        TaskMan expected = helper.generateTaskMan(tasks);
+
+        CommandResult result = logic.executeBatch(commands);
+
+        assertTrue(result.succeeded);
+        assertEquals(String.format(BatchCommand.MESSAGE_SUCCESS, 3), result.feedbackToUser);
+        assertEquals(expected, model.getTaskMan());
+        assertEquals(expected, latestSavedTaskMan);
+        assertEquals(1, changeEventCount);
+        assertEquals(1, historyDeque.size());
+    }
+
+    @Test
+    public void executeBatch_commandFails_noChanges() throws Exception {
+        TaskMan before = new TaskMan(model.getTaskMan());
+        List<String> commands = Arrays.asList(
+                helper.generateAddCommandWithOnlyTaskTitle("first"),
+                "delete f9");
+
+        CommandResult result = logic.executeBatch(commands);
+
+        assertFalse(result.succeeded);
+        assertEquals(before, model.getTaskMan());
+        assertEquals(0, changeEventCount);
+        assertTrue(historyDeque.isEmpty());
+    }
+
+    @Test
+    public void executeBatch_commandNotChangingData_rejected() throws Exception {
+        TaskMan before = new TaskMan(model.getTaskMan());
+        List<String> commands = Arrays.asList(
+                helper.generateAddCommandWithOnlyTaskTitle("first"),
+                UndoCommand.COMMAND_WORD);
+
+        CommandResult result = logic.executeBatch(commands);
+
+        assertFalse(result.succeeded);
+        assertTrue(result.feedbackToUser.endsWith(BatchCommand.MESSAGE_COMMAND_NOT_ALLOWED));
+        assertEquals(before, model.getTaskMan());
+    }
+
+    @Test
+    public void execute_undoAfterBatch_wholeBatchUndone() throws Exception {
+        TaskMan before = new TaskMan(model.getTaskMan());
+        logic.executeBatch(Arrays.asList(
+                helper.generateAddCommandWithOnlyTaskTitle("first"),
+                helper.generateAddCommandWithOnlyTaskTitle("second")));
+
+        assertTrue(logic.execute(UndoCommand.COMMAND_WORD).succeeded);
+        assertEquals(before, model.getTaskMan());
+    }
+
+    @Test
+    public void execute_script_commandsInFileExecuted() throws Exception {
+        List<Task> tasks = helper.generateFullTaskList(2);
+        List<String> lines = new ArrayList<>();
+        lines.add(BatchCommand.COMMENT_PREFIX + " tasks for this week");
+        lines.add("");
+        for (Task task : tasks) {
+            lines.add(helper.generateAddCommand(task));
+        }
+        File scriptFile = saveFolder.newFile("script.txt");
+        Files.write(scriptFile.toPath(), lines, StandardCharsets.UTF_8);
+
+        assertCommandBehavior(ScriptCommand.COMMAND_WORD + " " + scriptFile.getPath(),
+                String.format(BatchCommand.MESSAGE_SUCCESS, 2),
+                helper.generateTaskMan(tasks));
+        assertEquals(1, changeEventCount);
+    }
+
+    @Test
+    public void execute_scriptMissingFile_failure() throws Exception {
+        String filePath = saveFolder.getRoot().getPath() + File.separator + "missing.txt";
+        assertCommandBehavior(ScriptCommand.COMMAND_WORD + " " + filePath,
+                String.format(ScriptCommand.MESSAGE_READ_FAILURE, filePath));
+    }
+}
@@ -2,6 +2,8 @@ package seedu.taskman.logic.logicmanager;
 
 import org.junit.Before;
 import org.junit.Test;
+import seedu.taskman.logic.LogicManager;
+import seedu.taskman.logic.commands.ClearCommand;
 import seedu.taskman.logic.commands.CommandResult;
 import seedu.taskman.logic.commands.UndoCommand;
 import seedu.taskman.model.TaskMan;
@@ -52,6 +54,27 @@ public class UndoTests extends LogicManagerTestBase {
         assertEquals("failed to undo", before, model.getTaskMan());
     }
 
+    @Test
+    public void execute_undoClear_activitiesRestoredInOrder() throws Exception {
+        assertExecuteCommandWithStateChange(helper.generateAddCommandWithOnlyTaskTitle("first"));
+        assertExecuteCommandWithStateChange(helper.generateAddCommandWithOnlyTaskTitle("second"));
+        assertExecuteCommandWithStateChange(helper.generateAddCommandWithOnlyTaskTitle("third"));
+
+        TaskMan before = new TaskMan(model.getTaskMan());
+        assertExecuteCommandWithStateChange(ClearCommand.COMMAND_WORD);
+        assertExecuteCommandWithStateChange(UndoCommand.COMMAND_WORD);
+        assertEquals("failed to undo", before, model.getTaskMan());
+        assertEquals(before.getActivityList(), model.getTaskMan().getActivityList());
+    }
+
+    @Test
+    public void execute_moreCommandsThanHistorySize_oldestDropped() throws Exception {
+        for (int i = 0; i < LogicManager.HISTORY_SIZE + 1; i++) {
+            assertExecuteCommandWithStateChange(helper.generateAddCommandWithOnlyTaskTitle("task " + i));
+        }
+        assertEquals(LogicManager.HISTORY_SIZE, historyDeque.size());
+    }
+
     private void assertExecuteCommandWithStateChange(String command) {
         TaskMan before = new TaskMan(model.getTaskMan());
         CommandResult result = logic.execute(command);
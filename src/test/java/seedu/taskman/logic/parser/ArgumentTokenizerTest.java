@@ -0,0 +1,74 @@
+package seedu.taskman.logic.parser;
+
+import org.junit.Test;
+import seedu.taskman.logic.parser.ArgumentTokenizer.Prefix;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+public class ArgumentTokenizerTest {
+
+    @Test
+    public void tokenize_allPrefixesInOrder_valuesTrimmed() {
+        ArgumentTokenizer arguments = ArgumentTokenizer.tokenize(
+                " pay bills d/next fri 1900  s/tmr 1800 to tmr 1830 t/bills t/money ",
+                Prefix.DEADLINE, Prefix.SCHEDULE, Prefix.TAG).get();
+
+        assertEquals("pay bills", arguments.getPreamble());
+        assertEquals(Optional.of("next fri 1900"), arguments.getValue(Prefix.DEADLINE));
+        assertEquals(Optional.of("tmr 1800 to tmr 1830"), arguments.getValue(Prefix.SCHEDULE));
+        assertEquals(Arrays.asList("bills", "money"), arguments.getAllValues(Prefix.TAG));
+    }
+
+    @Test
+    public void tokenize_noPrefixes_onlyPreamble() {
+        ArgumentTokenizer arguments = ArgumentTokenizer.tokenize(" d1 ", Prefix.TAG).get();
+
+        assertEquals("d1", arguments.getPreamble());
+        assertEquals(Optional.empty(), arguments.getValue(Prefix.TAG));
+        assertEquals(Collections.emptyList(), arguments.getAllValues(Prefix.TAG));
+    }
+
+    @Test
+    public void tokenize_prefixAtStart_emptyPreamble() {
+        ArgumentTokenizer arguments = ArgumentTokenizer.tokenize("t/tag", Prefix.TAG).get();
+
+        assertEquals("", arguments.getPreamble());
+        assertEquals(Optional.of("tag"), arguments.getValue(Prefix.TAG));
+    }
+
+    @Test
+    public void tokenize_invalidFormat_empty() {
+        // unknown prefix
+        assertFalse(ArgumentTokenizer.tokenize(" x/", Prefix.TAG).isPresent());
+        // prefix not allowed
+        assertFalse(ArgumentTokenizer.tokenize("title d/tmr", Prefix.TAG).isPresent());
+        // prefixes out of order
+        assertFalse(ArgumentTokenizer.tokenize("title s/tmr d/tmr", Prefix.DEADLINE, Prefix.SCHEDULE).isPresent());
+        // repeated prefix
+        assertFalse(ArgumentTokenizer.tokenize("title d/tmr d/tmr", Prefix.DEADLINE).isPresent());
+        // missing value
+        assertFalse(ArgumentTokenizer.tokenize("title d/ t/tag", Prefix.DEADLINE, Prefix.TAG).isPresent());
+        // slash which is not part of a prefix
+        assertFalse(ArgumentTokenizer.tokenize("and/or", Prefix.DEADLINE).isPresent());
+        assertFalse(ArgumentTokenizer.tokenize("title t/a/b", Prefix.TAG).isPresent());
+    }
+
+    /**
+     * A tokenizer which backtracks would take far longer than the timeout on arguments this long
+     */
+    @Test(timeout = 10000)
+    public void tokenize_longInvalidArguments_failsQuickly() {
+        StringBuilder arguments = new StringBuilder();
+        for (int i = 0; i < 100000; i++) {
+            arguments.append("keyword t/tag ");
+        }
+        arguments.append("/");
+
+        assertFalse(ArgumentTokenizer.tokenize(arguments.toString(), Prefix.TAG).isPresent());
+    }
+}
@@ -124,6 +124,24 @@ public class DateTimeParserTest {
         assertEquals(nextWed.toEpochSecond(), parsedEpochTime);
     }
 
+    @Test
+    public void getEpochTime_repeatedDateTime_sameResult() throws Exception {
+        long firstParse = DateTimeParser.getEpochTime("fri 1330");
+        long secondParse = DateTimeParser.getEpochTime("  fri   1330 ");
+
+        assertEquals(firstParse, secondParse);
+    }
+
+    @Test
+    public void getEpochTime_repeatedRelativeDateTime_followsCurrentTime() throws Exception {
+        DateTimeParser.getEpochTime("3 days from now");
+        long parsedEpochTime = DateTimeParser.getEpochTime("3 days from now");
+
+        long timeNow = Instant.now().getEpochSecond();
+        long durationInSeconds = TimeUnit.DAYS.toSeconds(3);
+        assertTrue(Math.abs(timeNow + durationInSeconds - parsedEpochTime) <= 1);
+    }
+
     @Test
     public void getDuration_durationWithSingleTemporalUnit_expectedDuration() throws Exception {
         String testDurationNatural = "3 days";
@@ -147,6 +165,16 @@ public class DateTimeParserTest {
         assertTrue(Math.abs(testDurationSeconds - parsedTimeComma) < timeDifferenceAllowance);
     }
 
+    @Test
+    public void getDuration_durationWithCalendarUnits_expectedDuration() throws Exception {
+        ZonedDateTime now = ZonedDateTime.now();
+        long expectedDurationSeconds = now.plusMonths(2).toEpochSecond() - now.toEpochSecond()
+                + now.plusYears(1).toEpochSecond() - now.toEpochSecond();
+
+        long parsedTime = DateTimeParser.naturalDurationToSeconds("1 year 2 months");
+        assertTrue(Math.abs(expectedDurationSeconds - parsedTime) < timeDifferenceAllowance);
+    }
+
     @Test
     public void getEndTime_startTimeAndDuration_expectedEndTime() throws Exception {
         // use a start time & duration to get end time
@@ -0,0 +1,93 @@
+package seedu.taskman.model;
+
+import javafx.collections.ListChangeListener;
+import org.junit.Before;
+import org.junit.Test;
+import seedu.taskman.model.event.Activity;
+import seedu.taskman.testutil.TaskBuilder;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+public class ActivityPartitionsTest {
+
+    private TaskMan taskMan;
+    private ActivityPartitions partitions;
+
+    @Before
+    public void setup() {
+        taskMan = new TaskMan();
+        partitions = new ActivityPartitions(taskMan.getActivities());
+    }
+
+    @Test
+    public void addActivity_mixedActivities_routedToSortedPanels() throws Exception {
+        Activity lateEvent = new TaskBuilder("Late event").withSchedule(300, 400).buildEvent();
+        Activity earlyEvent = new TaskBuilder("Early event").withSchedule(100, 200).buildEvent();
+        Activity lateTask = new TaskBuilder("Late task").withDeadline(200).buildActivity();
+        Activity earlyTask = new TaskBuilder("Early task").withDeadline(50).buildActivity();
+        Activity floating = new TaskBuilder("Floating").buildActivity();
+        for (Activity activity : Arrays.asList(lateEvent, lateTask, floating, earlyEvent, earlyTask)) {
+            taskMan.addActivity(activity);
+        }
+
+        assertEquals(Arrays.asList(earlyEvent, lateEvent), partitions.getPartition(Activity.PanelType.SCHEDULE));
+        assertEquals(Arrays.asList(earlyTask, lateTask), partitions.getPartition(Activity.PanelType.DEADLINE));
+        assertEquals(Arrays.asList(floating), partitions.getPartition(Activity.PanelType.FLOATING));
+    }
+
+    @Test
+    public void removeActivity_deadlineTask_otherPanelsNotNotified() throws Exception {
+        Activity event = new TaskBuilder("Event").withSchedule(100, 200).buildEvent();
+        Activity task = new TaskBuilder("Task").withDeadline(100).buildActivity();
+        taskMan.addActivity(event);
+        taskMan.addActivity(task);
+        List<Activity> scheduleChanges = new ArrayList<>();
+        partitions.getPartition(Activity.PanelType.SCHEDULE).addListener((ListChangeListener<Activity>) change -> {
+            while (change.next()) {
+                scheduleChanges.addAll(change.getRemoved());
+                scheduleChanges.addAll(change.getAddedSubList());
+            }
+        });
+
+        taskMan.removeActivity(task);
+
+        assertEquals(0, partitions.getPartition(Activity.PanelType.DEADLINE).size());
+        assertEquals(Arrays.asList(event), partitions.getPartition(Activity.PanelType.SCHEDULE));
+        assertEquals(0, scheduleChanges.size());
+    }
+
+    @Test
+    public void addActivity_equalDeadlines_keptInOrderAdded() throws Exception {
+        Activity first = new TaskBuilder("First").withDeadline(100).buildActivity();
+        Activity second = new TaskBuilder("Second").withDeadline(100).buildActivity();
+        Activity third = new TaskBuilder("Third").withDeadline(100).buildActivity();
+        Activity earlier = new TaskBuilder("Earlier").withDeadline(50).buildActivity();
+        for (Activity activity : Arrays.asList(first, second, third, earlier)) {
+            taskMan.addActivity(activity);
+        }
+        taskMan.removeActivity(second);
+
+        assertEquals(Arrays.asList(earlier, first, third), partitions.getPartition(Activity.PanelType.DEADLINE));
+    }
+
+    @Test
+    public void setActivities_manyActivities_sortedAndReplaced() throws Exception {
+        taskMan.addActivity(new TaskBuilder("Old task").withDeadline(0).buildActivity());
+        List<Activity> tasks = new ArrayList<>();
+        for (int i = ActivityPartitions.BULK_THRESHOLD * 2; i > 0; i--) {
+            tasks.add(new TaskBuilder("Task " + i).withDeadline(i).buildActivity());
+        }
+
+        taskMan.setActivities(tasks);
+
+        List<Activity> deadlines = partitions.getPartition(Activity.PanelType.DEADLINE);
+        assertEquals(tasks.size(), deadlines.size());
+        for (int i = 0; i < deadlines.size(); i++) {
+            assertEquals(i + 1, deadlines.get(i).getDeadline().get().epochSecond);
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package seedu.taskman.model;
+
+import org.junit.Before;
+import org.junit.Test;
+import seedu.taskman.model.event.Activity;
+import seedu.taskman.model.event.Title;
+import seedu.taskman.model.tag.UniqueTagList;
+import seedu.taskman.testutil.TaskBuilder;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class ActivitySearchIndexTest {
+
+    private TaskMan taskMan;
+    private ActivitySearchIndex index;
+
+    @Before
+    public void setup() {
+        taskMan = new TaskMan();
+        index = new ActivitySearchIndex(taskMan.getActivities());
+    }
+
+    @Test
+    public void startSearch_titleWord_matchedIgnoringCase() throws Exception {
+        Activity milk = new TaskBuilder("Buy Milk").buildActivity();
+        Activity car = new TaskBuilder("Wash car").buildActivity();
+        taskMan.addActivity(milk);
+        taskMan.addActivity(car);
+
+        ActivitySearchIndex.Search search = index.startSearch(
+                Collections.singleton(ActivitySearchIndex.toIndexedTitleWord("MILK")), Collections.emptySet());
+        ActivitySearchIndex.Search partialWord = index.startSearch(
+                Collections.singleton(ActivitySearchIndex.toIndexedTitleWord("mil")), Collections.emptySet());
+
+        assertTrue(search.matches(milk));
+        assertFalse(search.matches(car));
+        assertFalse(partialWord.matches(milk));
+    }
+
+    @Test
+    public void startSearch_wordAndTagName_bothRequired() throws Exception {
+        Activity milk = new TaskBuilder("Buy Milk").withTags("groceries").buildActivity();
+        Activity bread = new TaskBuilder("Buy bread").withTags("chores").buildActivity();
+        taskMan.addActivity(milk);
+        taskMan.addActivity(bread);
+
+        ActivitySearchIndex.Search search = index.startSearch(Collections.singleton("buy"),
+                Collections.singleton(ActivitySearchIndex.toIndexedTagName(" groceries ")));
+
+        assertTrue(search.matches(milk));
+        assertFalse(search.matches(bread));
+    }
+
+    @Test
+    public void startSearch_unmatchedActivities_neverExamined() throws Exception {
+        CountingActivity match = new CountingActivity(new TaskBuilder("Buy milk").buildActivity());
+        taskMan.addActivity(match);
+        List<CountingActivity> others = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            CountingActivity other = new CountingActivity(new TaskBuilder("Task " + i).buildActivity());
+            others.add(other);
+            taskMan.addActivity(other);
+        }
+        others.forEach(other -> other.reads = 0);
+
+        ActivitySearchIndex.Search search = index.startSearch(Collections.singleton("milk"), Collections.emptySet());
+
+        assertTrue(search.matches(match));
+        for (CountingActivity other : others) {
+            assertFalse(search.matches(other));
+            assertEquals(0, other.reads);
+        }
+    }
+
+    @Test
+    public void addActivity_searchInProgress_matchesFollowChanges() throws Exception {
+        ActivitySearchIndex.Search search = index.startSearch(Collections.singleton("milk"), Collections.emptySet());
+        Activity milk = new TaskBuilder("Buy milk").buildActivity();
+        taskMan.addActivity(milk);
+        assertTrue(search.matches(milk));
+
+        taskMan.removeActivity(milk);
+        assertFalse(search.matches(milk));
+
+        index.endSearch(search);
+        Activity moreMilk = new TaskBuilder("More milk").buildActivity();
+        taskMan.addActivity(moreMilk);
+        assertFalse(search.matches(moreMilk));
+    }
+
+    @Test
+    public void new_existingActivities_indexed() throws Exception {
+        Activity activity = new TaskBuilder("Wash car").withTags("chores").buildActivity();
+        taskMan.addActivity(activity);
+
+        ActivitySearchIndex newIndex = new ActivitySearchIndex(taskMan.getActivities());
+        assertTrue(newIndex.startSearch(Collections.singleton("car"), Collections.emptySet()).matches(activity));
+        assertTrue(newIndex.startSearch(Collections.emptySet(), Collections.singleton("chores")).matches(activity));
+    }
+
+    /**
+     * Counts how often the title and tags of the activity are read
+     */
+    private static class CountingActivity extends Activity {
+        private int reads;
+
+        CountingActivity(Activity source) {
+            super(source);
+        }
+
+        @Override
+        public Title getTitle() {
+            reads++;
+            return super.getTitle();
+        }
+
+        @Override
+        public UniqueTagList getTags() {
+            reads++;
+            return super.getTags();
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package seedu.taskman.model;
+
+import org.junit.Before;
+import org.junit.Test;
+import seedu.taskman.model.event.Activity;
+import seedu.taskman.testutil.TaskBuilder;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.Assert.assertEquals;
+
+public class ActivityTimeIndexTest {
+
+    private TaskMan taskMan;
+    private ActivityTimeIndex index;
+
+    @Before
+    public void setup() {
+        taskMan = new TaskMan();
+        index = new ActivityTimeIndex(taskMan.getActivities());
+    }
+
+    @Test
+    public void getScheduledBetween_overlappingSchedules_orderedByStart() throws Exception {
+        Activity late = new TaskBuilder("Late").withSchedule(300, 400).buildEvent();
+        Activity early = new TaskBuilder("Early").withSchedule(100, 250).buildEvent();
+        Activity outside = new TaskBuilder("Outside").withSchedule(500, 600).buildEvent();
+        taskMan.addActivity(late);
+        taskMan.addActivity(early);
+        taskMan.addActivity(outside);
+
+        assertEquals(Arrays.asList(early, late), index.getScheduledBetween(200, 350));
+    }
+
+    @Test
+    public void getScheduledBetween_touchingSchedules_notOverlapping() throws Exception {
+        Activity before = new TaskBuilder("Before").withSchedule(100, 200).buildEvent();
+        Activity after = new TaskBuilder("After").withSchedule(300, 400).buildEvent();
+        taskMan.addActivity(before);
+        taskMan.addActivity(after);
+
+        assertEquals(Collections.emptyList(), index.getScheduledBetween(200, 300));
+    }
+
+    @Test
+    public void getScheduledBetween_instantaneousSchedule_occupiesStartingSecond() throws Exception {
+        Activity instant = new TaskBuilder("Instant").withSchedule(200, 200).buildEvent();
+        taskMan.addActivity(instant);
+
+        assertEquals(Collections.singletonList(instant), index.getScheduledBetween(200, 201));
+        assertEquals(Collections.emptyList(), index.getScheduledBetween(100, 200));
+    }
+
+    @Test
+    public void getDueBetween_deadlinesInRange_inclusiveAndOrderedByDeadline() throws Exception {
+        Activity later = new TaskBuilder("Later").withDeadline(300).buildActivity();
+        Activity sooner = new TaskBuilder("Sooner").withDeadline(100).buildActivity();
+        Activity outside = new TaskBuilder("Outside").withDeadline(301).buildActivity();
+        taskMan.addActivity(later);
+        taskMan.addActivity(sooner);
+        taskMan.addActivity(outside);
+
+        assertEquals(Arrays.asList(sooner, later), index.getDueBetween(100, 300));
+    }
+
+    @Test
+    public void removeActivity_indexed_noLongerFound() throws Exception {
+        Activity task = new TaskBuilder("Task").withDeadline(100).buildActivity();
+        Activity event = new TaskBuilder("Event").withSchedule(100, 200).buildEvent();
+        taskMan.addActivity(task);
+        taskMan.addActivity(event);
+        taskMan.removeActivity(task);
+        taskMan.removeActivity(event);
+
+        assertEquals(Collections.emptyList(), index.getDueBetween(0, 1000));
+        assertEquals(Collections.emptyList(), index.getScheduledBetween(0, 1000));
+    }
+}
@@ -0,0 +1,56 @@
+package seedu.taskman.model;
+
+import org.junit.Before;
+import org.junit.Test;
+import seedu.taskman.model.event.Activity;
+import seedu.taskman.model.tag.Tag;
+import seedu.taskman.testutil.TaskBuilder;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class TagRegistryTest {
+
+    private TaskMan taskMan;
+    private TagRegistry registry;
+
+    @Before
+    public void setup() {
+        taskMan = new TaskMan();
+        registry = new TagRegistry(taskMan.getActivities());
+    }
+
+    @Test
+    public void getTags_sharedTags_listedOnceInOrderOfFirstUse() throws Exception {
+        taskMan.addActivity(new TaskBuilder("first").withTags("b", "a").buildActivity());
+        taskMan.addActivity(new TaskBuilder("second").withTags("a", "c").buildActivity());
+
+        assertEquals(Arrays.asList(new Tag("b"), new Tag("a"), new Tag("c")), registry.getTags());
+        assertEquals(Integer.valueOf(2), registry.getUsageCounts().get(new Tag("a")));
+        assertEquals(Integer.valueOf(1), registry.getUsageCounts().get(new Tag("c")));
+    }
+
+    @Test
+    public void removeActivity_lastUseOfTag_tagDropped() throws Exception {
+        Activity first = new TaskBuilder("first").withTags("shared", "own").buildActivity();
+        taskMan.addActivity(first);
+        taskMan.addActivity(new TaskBuilder("second").withTags("shared").buildActivity());
+        taskMan.removeActivity(first);
+
+        assertFalse(registry.getUsageCounts().containsKey(new Tag("own")));
+        assertEquals(Integer.valueOf(1), registry.getUsageCounts().get(new Tag("shared")));
+    }
+
+    @Test
+    public void resetData_newActivities_registryReplaced() throws Exception {
+        taskMan.addActivity(new TaskBuilder("old").withTags("old").buildActivity());
+        taskMan.resetData(Collections.singletonList(new TaskBuilder("new").withTags("new").buildActivity()));
+
+        assertEquals(Collections.singletonList(new Tag("new")), registry.getTags());
+        assertTrue(registry.getUsageCounts().containsKey(new Tag("new")));
+    }
+}
@@ -0,0 +1,73 @@
+package seedu.taskman.model;
+
+import org.junit.Before;
+import org.junit.Test;
+import seedu.taskman.model.event.Activity;
+import seedu.taskman.model.event.Status;
+import seedu.taskman.testutil.TaskBuilder;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class TaskManChangeRecorderTest {
+
+    private TaskMan taskMan;
+    private TaskManChangeRecorder recorder;
+
+    @Before
+    public void setup() {
+        taskMan = new TaskMan();
+        recorder = new TaskManChangeRecorder();
+        taskMan.getActivities().addListener(recorder::record);
+    }
+
+    @Test
+    public void takeChangeSet_addedAndRemoved_listedSeparately() throws Exception {
+        Activity first = new TaskBuilder("first").buildActivity();
+        Activity second = new TaskBuilder("second").buildActivity();
+        taskMan.addActivity(first);
+        recorder.takeChangeSet();
+
+        taskMan.addActivity(second);
+        taskMan.removeActivity(first);
+        TaskManChangeSet changes = recorder.takeChangeSet();
+
+        assertEquals(Collections.singletonList(second), changes.getAdded());
+        assertEquals(Collections.singletonList(first), changes.getRemoved());
+        assertTrue(changes.getReplaced().isEmpty());
+    }
+
+    @Test
+    public void takeChangeSet_sameTitleRemovedAndAdded_replaced() throws Exception {
+        Activity original = new TaskBuilder("edited").buildActivity();
+        taskMan.addActivity(original);
+        recorder.takeChangeSet();
+
+        Activity editedActivity = new TaskBuilder("edited").withStatus(Status.COMPLETE).buildActivity();
+        taskMan.removeActivity(original);
+        taskMan.addActivity(editedActivity);
+        TaskManChangeSet changes = recorder.takeChangeSet();
+
+        assertTrue(changes.getAdded().isEmpty());
+        assertTrue(changes.getRemoved().isEmpty());
+        assertEquals(1, changes.getReplaced().size());
+        assertSame(original, changes.getReplaced().get(0).previous);
+        assertSame(editedActivity, changes.getReplaced().get(0).current);
+    }
+
+    @Test
+    public void takeChangeSet_activitiesMoved_empty() throws Exception {
+        Activity first = new TaskBuilder("first").buildActivity();
+        Activity second = new TaskBuilder("second").buildActivity();
+        taskMan.setActivities(Arrays.asList(first, second));
+        recorder.takeChangeSet();
+
+        taskMan.setActivities(Arrays.asList(second, first));
+
+        assertTrue(recorder.takeChangeSet().isEmpty());
+    }
+}
@@ -0,0 +1,69 @@
+package seedu.taskman.model;
+
+import org.junit.Test;
+import seedu.taskman.model.event.Activity;
+import seedu.taskman.testutil.TaskBuilder;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+public class TaskManSnapshotTest {
+
+    @Test
+    public void new_taskManChangedAfterwards_snapshotUnchanged() throws Exception {
+        TaskMan taskMan = new TaskMan();
+        Activity first = new TaskBuilder("first").buildActivity();
+        taskMan.addActivity(first);
+
+        TaskManSnapshot snapshot = new TaskManSnapshot(taskMan);
+        taskMan.addActivity(new TaskBuilder("second").buildActivity());
+        taskMan.removeActivity(first);
+
+        assertEquals(Arrays.asList(first), snapshot.getActivityList());
+        assertSame(first, snapshot.getActivityList().get(0));
+    }
+
+    @Test
+    public void withChanges_changesApplied_sameActivitiesAsTaskMan() throws Exception {
+        TaskMan taskMan = new TaskMan();
+        Activity first = new TaskBuilder("first").buildActivity();
+        Activity second = new TaskBuilder("second").buildActivity();
+        taskMan.addActivity(first);
+        taskMan.addActivity(second);
+        TaskManSnapshot original = new TaskManSnapshot(taskMan);
+
+        Activity third = new TaskBuilder("third").buildActivity();
+        Activity retagged = new TaskBuilder("second").withTags("urgent").buildActivity();
+        taskMan.removeActivity(first);
+        taskMan.removeActivity(second);
+        taskMan.addActivity(retagged);
+        taskMan.addActivity(third);
+        TaskManSnapshot changed = original.withChanges(new TaskManChangeSet(Collections.singletonList(third),
+                Collections.singletonList(first),
+                Collections.singletonList(new TaskManChangeSet.Replacement(second, retagged))), taskMan);
+
+        assertEquals(new HashSet<>(taskMan.getActivities()), new HashSet<>(changed.getActivityList()));
+        assertSame(retagged, changed.getActivityList().get(0));
+        assertEquals(Arrays.asList(first, second), original.getActivityList());
+    }
+
+    @Test
+    public void withChanges_noChanges_sameSnapshot() throws Exception {
+        TaskMan taskMan = new TaskMan();
+        TaskManSnapshot snapshot = new TaskManSnapshot(taskMan);
+        TaskManChangeSet noChanges = new TaskManChangeSet(Collections.emptyList(), Collections.emptyList(),
+                Collections.emptyList());
+
+        assertSame(snapshot, snapshot.withChanges(noChanges, taskMan));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void getActivityList_modify_throwsUnsupportedOperationException() throws Exception {
+        TaskManSnapshot snapshot = new TaskManSnapshot(new TaskMan());
+        snapshot.getActivityList().add(new TaskBuilder("first").buildActivity());
+    }
+}
@@ -0,0 +1,86 @@
+package seedu.taskman.model;
+
+import javafx.collections.ListChangeListener;
+import org.junit.Before;
+import org.junit.Test;
+import seedu.taskman.model.event.Activity;
+import seedu.taskman.model.event.Title;
+import seedu.taskman.model.tag.Tag;
+import seedu.taskman.model.tag.UniqueTagList;
+import seedu.taskman.testutil.TaskBuilder;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class TaskManTest {
+
+    private TaskMan taskMan;
+    private List<Activity> removed;
+    private List<Activity> added;
+
+    @Before
+    public void setup() throws Exception {
+        taskMan = new TaskMan();
+        taskMan.setActivities(Arrays.asList(new TaskBuilder("first").buildActivity(),
+                new TaskBuilder("second").buildActivity(), new TaskBuilder("third").buildActivity()));
+        removed = new ArrayList<>();
+        added = new ArrayList<>();
+        taskMan.getActivities().addListener((ListChangeListener<Activity>) change -> {
+            while (change.next()) {
+                removed.addAll(change.getRemoved());
+                added.addAll(change.getAddedSubList());
+            }
+        });
+    }
+
+    @Test
+    public void resetData_sameActivities_noChanges() throws Exception {
+        List<Activity> before = new ArrayList<>(taskMan.getActivities());
+
+        taskMan.resetData(new TaskMan(taskMan));
+
+        assertTrue(removed.isEmpty());
+        assertTrue(added.isEmpty());
+        for (int i = 0; i < before.size(); i++) {
+            assertSame(before.get(i), taskMan.getActivities().get(i));
+        }
+    }
+
+    @Test
+    public void resetData_oneActivityDiffers_onlyThatActivityChanged() throws Exception {
+        Activity first = taskMan.getActivities().get(0);
+        Activity third = taskMan.getActivities().get(2);
+        TaskMan target = new TaskMan();
+        target.setActivities(Arrays.asList(new Activity(first),
+                new TaskBuilder("second").withTags("urgent").buildActivity(), new Activity(third)));
+
+        taskMan.resetData(target);
+
+        assertEquals(target, taskMan);
+        assertEquals(1, removed.size());
+        assertEquals(1, added.size());
+        assertEquals(new UniqueTagList(new Tag("urgent")), taskMan.getActivities().get(1).getTags());
+        assertSame(first, taskMan.getActivities().get(0));
+        assertSame(third, taskMan.getActivities().get(2));
+    }
+
+    @Test
+    public void resetData_activitiesAddedAndRemoved_onlyThoseActivitiesChanged() throws Exception {
+        Activity second = taskMan.getActivities().get(1);
+        TaskMan target = new TaskMan();
+        target.setActivities(Arrays.asList(new Activity(second), new TaskBuilder("fourth").buildActivity()));
+
+        taskMan.resetData(target);
+
+        assertEquals(target, taskMan);
+        assertEquals(2, removed.size());
+        assertEquals(1, added.size());
+        assertEquals(new Title("fourth"), added.get(0).getTitle());
+        assertSame(second, taskMan.getActivities().get(0));
+    }
+}
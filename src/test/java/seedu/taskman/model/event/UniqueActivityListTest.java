@@ -0,0 +1,64 @@
+package seedu.taskman.model.event;
+
+import org.junit.Before;
+import org.junit.Test;
+import seedu.taskman.testutil.TaskBuilder;
+
+import java.util.Arrays;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class UniqueActivityListTest {
+
+    private UniqueActivityList list;
+
+    @Before
+    public void setup() {
+        list = new UniqueActivityList();
+    }
+
+    @Test
+    public void add_distinctTitles_indexedByTitleAndActivity() throws Exception {
+        Activity first = new TaskBuilder("first").buildActivity();
+        Activity second = new TaskBuilder("second").buildActivity();
+        list.add(first);
+        list.add(second);
+
+        assertTrue(list.contains(new Title("first")));
+        assertTrue(list.contains(new Activity(second)));
+        assertFalse(list.contains(new Title("third")));
+    }
+
+    @Test(expected = UniqueActivityList.DuplicateActivityException.class)
+    public void add_duplicateTitle_exceptionThrown() throws Exception {
+        list.add(new TaskBuilder("same").buildActivity());
+        list.add(new TaskBuilder("same").buildActivity());
+    }
+
+    @Test
+    public void remove_existingActivity_removedFromIndex() throws Exception {
+        Activity activity = new TaskBuilder("removed").buildActivity();
+        list.add(activity);
+        list.remove(new Activity(activity));
+
+        assertFalse(list.contains(new Title("removed")));
+        assertFalse(list.contains(activity));
+        assertTrue(list.getInternalList().isEmpty());
+    }
+
+    @Test(expected = UniqueActivityList.ActivityNotFoundException.class)
+    public void remove_missingActivity_exceptionThrown() throws Exception {
+        list.remove(new TaskBuilder("missing").buildActivity());
+    }
+
+    @Test
+    public void setAll_internalList_indexFollowsReplacement() throws Exception {
+        list.add(new TaskBuilder("old").buildActivity());
+        list.getInternalList().setAll(Arrays.asList(new TaskBuilder("new 1").buildActivity(), new TaskBuilder("new 2").buildActivity()));
+
+        assertFalse(list.contains(new Title("old")));
+        assertTrue(list.contains(new Title("new 1")));
+        assertTrue(list.contains(new Title("new 2")));
+    }
+}
@@ -0,0 +1,79 @@
+package seedu.taskman.storage;
+
+import org.junit.Test;
+import seedu.taskman.model.event.Activity;
+import seedu.taskman.testutil.TaskBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+public class ActivityLoadPipelineTest {
+
+    @Test
+    public void convert_manyActivities_savedOrderKept() throws Exception {
+        List<String> titles = new ArrayList<>();
+        for (int i = 0; i < ActivityLoadPipeline.PARALLEL_THRESHOLD * 4; i++) {
+            titles.add("Task " + i);
+        }
+
+        List<Activity> activities = ActivityLoadPipeline.convert(titles,
+                title -> new TaskBuilder(title).buildActivity());
+
+        assertEquals(titles.size(), activities.size());
+        for (int i = 0; i < titles.size(); i++) {
+            assertEquals(titles.get(i), activities.get(i).getTitle().title);
+        }
+    }
+
+    @Test
+    public void chunkedConverter_moreThanOneChunk_readOrderKept() throws Exception {
+        ActivityLoadPipeline.ChunkedConverter<String> converter =
+                new ActivityLoadPipeline.ChunkedConverter<>(title -> new TaskBuilder(title).buildActivity());
+        int count = ActivityLoadPipeline.CHUNK_SIZE * 2 + 1;
+        for (int i = 0; i < count; i++) {
+            converter.accept("Task " + i);
+        }
+        converter.accept("invalid title!");
+
+        List<Activity> activities = converter.getConverted();
+
+        assertEquals(count, activities.size());
+        for (int i = 0; i < count; i++) {
+            assertEquals("Task " + i, activities.get(i).getTitle().title);
+        }
+    }
+
+    @Test
+    public void convert_invalidAndDuplicateActivities_skipped() throws Exception {
+        List<String> titles = new ArrayList<>();
+        titles.add("first");
+        titles.add("invalid title!");
+        titles.add("second");
+        titles.add("first");
+
+        List<Activity> activities = ActivityLoadPipeline.convert(titles,
+                title -> new TaskBuilder(title).buildActivity());
+
+        assertEquals(2, activities.size());
+        assertEquals(new TaskBuilder("first").buildActivity(), activities.get(0));
+        assertEquals(new TaskBuilder("second").buildActivity(), activities.get(1));
+    }
+
+    @Test
+    public void convert_sameTitleDifferentDetails_firstSavedKept() throws Exception {
+        List<Activity> saved = new ArrayList<>();
+        saved.add(new TaskBuilder("first").withDeadline(100).buildActivity());
+        saved.add(new TaskBuilder("second").buildActivity());
+        saved.add(new TaskBuilder("first").withDeadline(200).buildActivity());
+        saved.add(new TaskBuilder("second").withStatus("complete").buildActivity());
+
+        List<Activity> activities = ActivityLoadPipeline.convert(saved, activity -> activity);
+
+        assertEquals(2, activities.size());
+        assertSame(saved.get(0), activities.get(0));
+        assertSame(saved.get(1), activities.get(1));
+    }
+}
@@ -0,0 +1,97 @@
+package seedu.taskman.storage;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+import seedu.taskman.commons.exceptions.DataConversionException;
+import seedu.taskman.model.ReadOnlyTaskMan;
+import seedu.taskman.model.TaskMan;
+import seedu.taskman.model.event.Activity;
+import seedu.taskman.model.event.Task;
+import seedu.taskman.testutil.TypicalTestTasks;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+public class BinaryTaskManStorageTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private String getTempFilePath(String fileName) {
+        return testFolder.getRoot().getPath() + File.separator + fileName;
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        String filePath = getTempFilePath("NonExistentFile.bin");
+        assertFalse(new BinaryTaskManStorage(filePath).readTaskMan().isPresent());
+    }
+
+    @Test
+    public void readAndSaveTaskMan_allInOrder_success() throws Exception {
+        String filePath = getTempFilePath("TempTaskMan.bin");
+        TypicalTestTasks td = new TypicalTestTasks();
+        TaskMan original = td.getTypicalTaskMan();
+        BinaryTaskManStorage binaryStorage = new BinaryTaskManStorage(filePath);
+
+        //Save in new file and read back
+        binaryStorage.saveTaskMan(original);
+        ReadOnlyTaskMan readBack = binaryStorage.readTaskMan().get();
+        assertEquals(original, new TaskMan(readBack));
+
+        //Modify data, overwrite exiting file, and read back
+        original.addActivity(new Task(td.taskCS2102));
+        original.removeActivity(new Activity(new Task(td.taskCS2101)));
+        binaryStorage.saveTaskMan(original);
+        readBack = binaryStorage.readTaskMan().get();
+        assertEquals(original, new TaskMan(readBack));
+    }
+
+    @Test
+    public void readTaskMan_truncatedFile_throwDataConversionException() throws Exception {
+        String filePath = getTempFilePath("TempTaskMan.bin");
+        new BinaryTaskManStorage(filePath).saveTaskMan(new TypicalTestTasks().getTypicalTaskMan());
+        Path path = Paths.get(filePath);
+        byte[] saved = Files.readAllBytes(path);
+        Files.write(path, Arrays.copyOf(saved, saved.length / 2));
+
+        thrown.expect(DataConversionException.class);
+        new BinaryTaskManStorage(filePath).readTaskMan();
+    }
+
+    @Test
+    public void readTaskMan_xmlFile_imported() throws Exception {
+        String filePath = getTempFilePath("TempTaskMan.xml");
+        TaskMan original = new TypicalTestTasks().getTypicalTaskMan();
+        new XmlTaskManStorage(filePath).saveTaskMan(original);
+
+        ReadOnlyTaskMan readBack = new BinaryTaskManStorage(filePath).readTaskMan().get();
+        assertEquals(original, new TaskMan(readBack));
+    }
+
+    @Test
+    public void importAndExportXml_roundTrip_dataPreserved() throws Exception {
+        String xmlFilePath = getTempFilePath("TempTaskMan.xml");
+        String binaryFilePath = getTempFilePath("TempTaskMan.bin");
+        String exportedFilePath = getTempFilePath("ExportedTaskMan.xml");
+        TaskMan original = new TypicalTestTasks().getTypicalTaskMan();
+        new XmlTaskManStorage(xmlFilePath).saveTaskMan(original);
+
+        BinaryTaskManStorage.importFromXml(xmlFilePath, binaryFilePath);
+        BinaryTaskManStorage.exportToXml(binaryFilePath, exportedFilePath);
+
+        ReadOnlyTaskMan readBack = new XmlTaskManStorage(exportedFilePath).readTaskMan().get();
+        assertEquals(original, new TaskMan(readBack));
+    }
+}
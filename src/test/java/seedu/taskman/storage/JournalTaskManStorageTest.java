@@ -0,0 +1,164 @@
+package seedu.taskman.storage;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import seedu.taskman.model.ReadOnlyTaskMan;
+import seedu.taskman.model.TaskMan;
+import seedu.taskman.model.TaskManChangeSet;
+import seedu.taskman.model.event.Activity;
+import seedu.taskman.model.event.Task;
+import seedu.taskman.model.tag.Tag;
+import seedu.taskman.model.tag.UniqueTagList;
+import seedu.taskman.testutil.TaskBuilder;
+import seedu.taskman.testutil.TestTask;
+import seedu.taskman.testutil.TypicalTestTasks;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.Collections;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class JournalTaskManStorageTest {
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private String getTempFilePath(String fileName) {
+        return testFolder.getRoot().getPath() + File.separator + fileName;
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        String filePath = getTempFilePath("NonExistentFile.xml");
+        assertFalse(new JournalTaskManStorage(filePath).readTaskMan().isPresent());
+    }
+
+    @Test
+    public void readAndSaveTaskMan_allInOrder_success() throws Exception {
+        String filePath = getTempFilePath("TempTaskMan.xml");
+        TypicalTestTasks td = new TypicalTestTasks();
+        TaskMan original = td.getTypicalTaskMan();
+        JournalTaskManStorage journalStorage = new JournalTaskManStorage(filePath);
+
+        //First save writes a full snapshot
+        journalStorage.saveTaskMan(original);
+        assertFalse(new File(filePath + JournalTaskManStorage.JOURNAL_FILE_SUFFIX).exists());
+        assertEquals(original, new TaskMan(journalStorage.readTaskMan().get()));
+
+        //Later saves only append the changes
+        original.addActivity(new Task(td.taskCS2102));
+        original.removeActivity(new Activity(new Task(td.taskCS2101)));
+        journalStorage.saveTaskMan(original);
+        assertTrue(new File(filePath + JournalTaskManStorage.JOURNAL_FILE_SUFFIX).exists());
+
+        //A fresh storage replays the journal on top of the snapshot
+        ReadOnlyTaskMan readBack = new JournalTaskManStorage(filePath).readTaskMan().get();
+        assertEquals(original, new TaskMan(readBack));
+    }
+
+    @Test
+    public void saveTaskMan_tagsChanged_changeJournaled() throws Exception {
+        String filePath = getTempFilePath("TempTaskMan.xml");
+        TypicalTestTasks td = new TypicalTestTasks();
+        TaskMan original = td.getTypicalTaskMan();
+        JournalTaskManStorage journalStorage = new JournalTaskManStorage(filePath);
+        journalStorage.saveTaskMan(original);
+
+        Task retagged = new Task(td.taskCS2309);
+        retagged.setTags(new UniqueTagList(new Tag("retagged")));
+        original.removeActivity(new Activity(new Task(td.taskCS2309)));
+        original.addActivity(retagged);
+        journalStorage.saveTaskMan(original);
+
+        ReadOnlyTaskMan readBack = new JournalTaskManStorage(filePath).readTaskMan().get();
+        Activity readRetagged = readBack.getActivityList().stream()
+                .filter(activity -> activity.getTitle().equals(retagged.getTitle()))
+                .findFirst().get();
+        assertEquals(retagged.getTags(), readRetagged.getTags());
+    }
+
+    @Test
+    public void saveTaskMan_changesGiven_recordsWrittenFromChanges() throws Exception {
+        String filePath = getTempFilePath("TempTaskMan.xml");
+        TypicalTestTasks td = new TypicalTestTasks();
+        TaskMan original = td.getTypicalTaskMan();
+        JournalTaskManStorage journalStorage = new JournalTaskManStorage(filePath);
+        journalStorage.saveTaskMan(original);
+
+        Activity added = new Activity(new Task(td.taskCS2102));
+        Activity removed = new Activity(new Task(td.taskCS2101));
+        original.addActivity(added);
+        original.removeActivity(removed);
+        TaskManChangeSet changes = new TaskManChangeSet(Collections.singletonList(added),
+                Collections.singletonList(removed), Collections.emptyList());
+        // the data given is not compared with what was saved, so the activity missing from it stays saved
+        TaskMan incomplete = new TaskMan(original);
+        incomplete.removeActivity(incomplete.getActivities().get(0));
+        journalStorage.saveTaskMan(incomplete, Collections.singletonList(changes), filePath);
+
+        File journalFile = new File(filePath + JournalTaskManStorage.JOURNAL_FILE_SUFFIX);
+        assertEquals(2, Files.readAllLines(journalFile.toPath(), StandardCharsets.UTF_8).size());
+        ReadOnlyTaskMan readBack = new JournalTaskManStorage(filePath).readTaskMan().get();
+        assertEquals(original, new TaskMan(readBack));
+    }
+
+    @Test
+    public void saveTaskMan_journalPastThreshold_compactedWithoutDataLoss() throws Exception {
+        String filePath = getTempFilePath("TempTaskMan.xml");
+        TypicalTestTasks td = new TypicalTestTasks();
+        TaskMan original = new TaskMan();
+        JournalTaskManStorage journalStorage = new JournalTaskManStorage(filePath, 1);
+        journalStorage.saveTaskMan(original);
+
+        for (TestTask task : td.getTypicalTasks()) {
+            original.addActivity(new Task(task));
+            journalStorage.saveTaskMan(original);
+        }
+
+        ReadOnlyTaskMan readBack = new JournalTaskManStorage(filePath).readTaskMan().get();
+        assertEquals(original, new TaskMan(readBack));
+    }
+
+    @Test
+    public void saveTaskMan_expiredActivityCompacted_leftOutOfSnapshot() throws Exception {
+        String filePath = getTempFilePath("TempTaskMan.xml");
+        JournalTaskManStorage journalStorage = new JournalTaskManStorage(filePath, 1);
+        TaskMan original = new TaskMan();
+        journalStorage.saveTaskMan(original);
+
+        Activity expired = new TaskBuilder("expired").withDeadline(0).withStatus("complete").buildActivity();
+        Activity current = new TaskBuilder("current").buildActivity();
+        original.addActivity(expired);
+        original.addActivity(current);
+        journalStorage.saveTaskMan(original);
+        // waits for the compaction to finish
+        journalStorage.saveTaskMan(original, getTempFilePath("Other.xml"));
+
+        assertFalse(new File(filePath + JournalTaskManStorage.JOURNAL_FILE_SUFFIX).exists());
+        ReadOnlyTaskMan snapshot = XmlFileStorage.loadTaskManFromSaveFile(new File(filePath));
+        assertEquals(Collections.singletonList(current), snapshot.getActivityList());
+    }
+
+    @Test
+    public void readTaskMan_incompleteLastRecord_recordIgnored() throws Exception {
+        String filePath = getTempFilePath("TempTaskMan.xml");
+        TypicalTestTasks td = new TypicalTestTasks();
+        TaskMan original = td.getTypicalTaskMan();
+        JournalTaskManStorage journalStorage = new JournalTaskManStorage(filePath);
+        journalStorage.saveTaskMan(original);
+        original.addActivity(new Task(td.taskCS2102));
+        journalStorage.saveTaskMan(original);
+
+        Files.write(new File(filePath + JournalTaskManStorage.JOURNAL_FILE_SUFFIX).toPath(),
+                "{\"operation\":\"ADD\",\"ti".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+
+        ReadOnlyTaskMan readBack = new JournalTaskManStorage(filePath).readTaskMan().get();
+        assertEquals(original, new TaskMan(readBack));
+    }
+}
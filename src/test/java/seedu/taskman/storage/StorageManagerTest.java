@@ -5,15 +5,22 @@ import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.TemporaryFolder;
+import seedu.taskman.commons.core.config.ConfigData;
 import seedu.taskman.commons.events.model.TaskManChangedEvent;
 import seedu.taskman.commons.events.storage.DataSavingExceptionEvent;
 import seedu.taskman.model.ReadOnlyTaskMan;
 import seedu.taskman.model.TaskMan;
+import seedu.taskman.model.TaskManChangeSet;
+import seedu.taskman.model.TaskManSnapshot;
 import seedu.taskman.model.UserPrefs;
+import seedu.taskman.model.event.Activity;
+import seedu.taskman.model.event.Task;
 import seedu.taskman.testutil.EventsCollector;
+import seedu.taskman.testutil.TestTask;
 import seedu.taskman.testutil.TypicalTestTasks;
 
 import java.io.IOException;
+import java.util.Collections;
 
 import static junit.framework.TestCase.assertNotNull;
 import static org.junit.Assert.assertEquals;
@@ -73,9 +80,46 @@ public class StorageManagerTest {
         Storage storage = new StorageManager(new XmlTaskManStorageExceptionThrowingStub("dummy"), new JsonUserPrefsStorage("dummy"));
         EventsCollector eventCollector = new EventsCollector();
         storage.handleTaskManChangedEvent(new TaskManChangedEvent(new TaskMan()));
+        storage.flushPendingSave();
         assertTrue(eventCollector.get(0) instanceof DataSavingExceptionEvent);
     }
 
+    @Test
+    public void handleTaskManChangedEvent_burstOfChanges_latestDataSaved() throws Exception {
+        TypicalTestTasks td = new TypicalTestTasks();
+        TaskMan taskMan = new TaskMan();
+        for (TestTask task : td.getTypicalTasks()) {
+            taskMan.addActivity(new Task(task));
+            storageManager.handleTaskManChangedEvent(new TaskManChangedEvent(taskMan));
+        }
+        storageManager.flushPendingSave();
+
+        assertEquals(taskMan, new TaskMan(storageManager.readTaskMan().get()));
+    }
+
+    @Test
+    public void handleTaskManChangedEvent_burstOfKnownChanges_allChangesJournaled() throws Exception {
+        StorageManager journalStorageManager = new StorageManager(getTempFilePath("journal"),
+                getTempFilePath("prefs"), ConfigData.StorageFormat.JOURNAL, 0);
+        TypicalTestTasks td = new TypicalTestTasks();
+        TaskMan taskMan = new TaskMan();
+        journalStorageManager.saveTaskMan(taskMan);
+
+        TaskManSnapshot snapshot = new TaskManSnapshot(taskMan);
+        long version = 0;
+        for (TestTask task : td.getTypicalTasks()) {
+            Activity added = new Activity(new Task(task));
+            taskMan.addActivity(added);
+            TaskManChangeSet changes = new TaskManChangeSet(Collections.singletonList(added),
+                    Collections.emptyList(), Collections.emptyList());
+            snapshot = snapshot.withChanges(changes, taskMan);
+            journalStorageManager.handleTaskManChangedEvent(new TaskManChangedEvent(snapshot, changes, ++version));
+        }
+        journalStorageManager.flushPendingSave();
+
+        assertEquals(taskMan, new TaskMan(journalStorageManager.readTaskMan().get()));
+    }
+
     @Test
     public void setTaskManFilePath() {
         String filePath = "filepath";
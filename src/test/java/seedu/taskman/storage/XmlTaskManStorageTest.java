@@ -59,6 +59,12 @@ public class XmlTaskManStorageTest {
          */
     }
 
+    @Test
+    public void read_newerFormatVersion_exceptionThrown() throws Exception {
+        thrown.expect(DataConversionException.class);
+        readTaskMan("NewerVersionTaskMan.xml");
+    }
+
     @Test
     public void readAndSaveTaskMan_allInOrder_success() throws Exception {
         String filePath = testFolder.getRoot().getPath() + "TempTaskMan.xml";
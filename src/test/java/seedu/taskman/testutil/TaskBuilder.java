@@ -28,13 +28,42 @@ public class TaskBuilder {
         return this;
     }
 
+    public TaskBuilder withDeadline(long epochSecond) throws IllegalValueException {
+        this.task.setDeadline(new Deadline(epochSecond));
+        return this;
+    }
+
     public TaskBuilder withSchedule(String schedule) throws IllegalValueException {
         this.task.setSchedule(new Schedule(schedule));
         return this;
     }
 
+    public TaskBuilder withSchedule(long startEpochSecond, long endEpochSecond) throws IllegalValueException {
+        this.task.setSchedule(new Schedule(startEpochSecond, endEpochSecond));
+        return this;
+    }
+
+    public TaskBuilder withStatus(String status) throws IllegalValueException {
+        this.task.setStatus(new Status(status));
+        return this;
+    }
+
     public TestTask build() {
         return this.task;
     }
 
+    /**
+     * Returns the task built, as an activity
+     */
+    public Activity buildActivity() {
+        return new Activity(new Task(task));
+    }
+
+    /**
+     * Returns an event with the title, tags and schedule built, as an activity
+     */
+    public Activity buildEvent() {
+        return new Activity(new Event(task));
+    }
+
 }